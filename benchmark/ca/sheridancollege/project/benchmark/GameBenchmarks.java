@@ -0,0 +1,103 @@
+package ca.sheridancollege.project.benchmark;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.game.UnoDeck;
+import ca.sheridancollege.project.player.ComputerPlayer;
+import ca.sheridancollege.project.player.Player;
+import ca.sheridancollege.project.simulation.Simulator;
+
+import java.util.SplittableRandom;
+
+/**
+ * The {@code GameBenchmarks} class benchmarks the hot paths of the game.
+ *
+ * <p>Usage: {@code GameBenchmarks [name filter]}
+ */
+public class GameBenchmarks {
+    private static final long SEED = 17796L;
+
+    private static final int PLAYERS = 4;
+
+    // The number of cards in the hand for Player.nonMatchColor
+    private static final int HAND_CARDS = 30;
+
+    private static final Card.Color[] COLORS = Card.Color.values();
+
+    private final SplittableRandom rng = new SplittableRandom(SEED);
+    private final UnoDeck deck = new UnoDeck();
+    private final Player player = new ComputerPlayer(1, null, new SplittableRandom(SEED));
+
+    private Game game;
+    private int index;
+    private long gameSeed = SEED;
+
+    public static void main(String[] args) {
+        new GameBenchmarks().run(new Harness(GameBenchmarks.class, args.length > 0 ? args[0] : null));
+    }
+
+    private void run(Harness harness) {
+        harness.run("UnoDeck.new", () -> new UnoDeck().deckSize());
+        harness.run("UnoDeck.shuffle", this::shuffle);
+
+        newGame();
+        harness.run("Game.draw+regenerateDrawPile", this::drawAndPlay);
+
+        harness.run("Card.matchCard", this::matchCard);
+        harness.run("Card.toString", this::cardToString);
+
+        player.initHand(deck.getCardsInRange(0, HAND_CARDS));
+        harness.run("Player.nonMatchColor", this::nonMatchColor);
+
+        harness.run("Game.playGame(headless)", this::playGame);
+    }
+
+    private long shuffle() {
+        deck.shuffle(rng);
+        return deck.getCode(0);
+    }
+
+    /* Draws a card and puts it on the Discard pile, so the Draw pile is regenerated from the Discard pile. */
+    private long drawAndPlay() {
+        Player current = game.getTurnOrder().current();
+        Card card = game.draw(current);
+
+        // The penalties have moved all the cards into the hands
+        if (card == null) {
+            newGame();
+            return 0;
+        }
+
+        game.playCard(card);
+        return card.getCode();
+    }
+
+    private long matchCard() {
+        Card card = deck.getCard(index);
+        index = (index + 1) % UnoDeck.CLASSIC_UNO_CARDS;
+
+        return card.matchCard(deck.getCard(index)) ? 1 : 0;
+    }
+
+    private long cardToString() {
+        index = (index + 1) % UnoDeck.CLASSIC_UNO_CARDS;
+        return deck.getCard(index).toString().length();
+    }
+
+    private long nonMatchColor() {
+        index = (index + 1) % COLORS.length;
+        return player.nonMatchColor(COLORS[index]) ? 1 : 0;
+    }
+
+    private long playGame() {
+        Game headless = Simulator.newHeadlessGame(gameSeed++);
+        headless.playGame(PLAYERS);
+
+        return headless.getTurns();
+    }
+
+    private void newGame() {
+        game = Simulator.newHeadlessGame(gameSeed++);
+        game.deal(PLAYERS);
+    }
+}
@@ -0,0 +1,153 @@
+package ca.sheridancollege.project.benchmark;
+
+import ca.sheridancollege.project.util.Message;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@code Harness} class measures the time and allocation of the benchmark operations.
+ *
+ * <p>Each benchmark runs in a JVM of its own, forked with the same class path and JVM options, so that the
+ * profile and the garbage of one benchmark do not affect the next one. In the forked JVM, the benchmark runs
+ * warm-up iterations, then measurement iterations of a fixed duration, and reports the average time per
+ * operation, the bytes allocated per operation and the allocation rate
+ * (from {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}),
+ * and the number and time of the garbage collections during the measurement.</p>
+ *
+ * <p>The result of every operation is folded into a field, so that the JIT compiler cannot eliminate the work.</p>
+ *
+ * <p>This is a small harness on the JDK alone, not JMH, since the project has no Maven or Gradle build. It does
+ * not guard against every pitfall that JMH does (e.g. loop optimizations across the batched operations), so its
+ * results are only comparable with the results of this harness on the same machine, not with JMH results.</p>
+ */
+public final class Harness {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = 1_000_000_000L;
+
+    // The number of operations between the clock checks
+    private static final int BATCH_SIZE = 64;
+
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    // The system property that marks the JVM forked to run a single benchmark
+    private static final String FORKED_PROPERTY = "benchmark.forked";
+
+    // The results of the operations (a black hole)
+    private static volatile long sink;
+
+    private final Class<?> mainClass;
+    private final String filter;
+    private final boolean forked = Boolean.getBoolean(FORKED_PROPERTY);
+
+    /**
+     * Constructs a new {@code Harness} object that runs the benchmarks whose name contains the specified string.
+     * In the JVM forked for a benchmark, only the benchmark of the name is run.
+     *
+     * @param mainClass the class whose {@code main} method runs the benchmarks with the filter as the argument
+     * @param filter    the part of the names of the benchmarks to run, or {@code null} to run all the benchmarks
+     */
+    public Harness(Class<?> mainClass, String filter) {
+        this.mainClass = mainClass;
+        this.filter = filter;
+    }
+
+    /**
+     * Runs the specified benchmark operation in a forked JVM unless its name does not match the filter.
+     *
+     * @param name      the name of the benchmark
+     * @param operation the operation that returns a value depending on its work
+     */
+    public void run(String name, LongSupplier operation) {
+        if (forked) {
+            if (name.equals(filter)) measure(name, operation);
+        } else if (filter == null || name.contains(filter)) {
+            fork(name);
+        }
+    }
+
+    /* Runs the main class for the benchmark in a new JVM, and waits for it. */
+    private void fork(String name) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-D" + FORKED_PROPERTY + "=true");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.add(name);
+
+        try {
+            int status = new ProcessBuilder(command).inheritIO().start().waitFor();
+            if (status != 0) throw new IllegalStateException("The benchmark " + name + " exited with " + status);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the benchmark " + name, e);
+        }
+    }
+
+    /* Runs the warm-up and measurement iterations of the operation, and reports the result. */
+    private void measure(String name, LongSupplier operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) iterate(operation);
+
+        long threadId = Thread.currentThread().getId();
+        long gcCount = collectionCount();
+        long gcTime = collectionTime();
+        long allocated = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        long ops = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) ops += iterate(operation);
+
+        long elapsed = System.nanoTime() - start;
+        allocated = THREADS.getThreadAllocatedBytes(threadId) - allocated;
+
+        Message.stdPrintf("benchmark.result", name, (double) elapsed / ops, (double) allocated / ops,
+            allocated / BYTES_PER_MEGABYTE / (elapsed / NANOS_PER_SECOND),
+            collectionCount() - gcCount, collectionTime() - gcTime);
+    }
+
+    /* Runs the operation for an iteration and returns the number of operations. */
+    private static long iterate(LongSupplier operation) {
+        long result = 0;
+        long ops = 0;
+
+        long deadline = System.nanoTime() + ITERATION_NANOS;
+        do {
+            for (int i = 0; i < BATCH_SIZE; i++) result ^= operation.getAsLong();
+            ops += BATCH_SIZE;
+        } while (System.nanoTime() < deadline);
+
+        sink = result;
+        return ops;
+    }
+
+    private static long collectionCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) count += Math.max(0, collector.getCollectionCount());
+
+        return count;
+    }
+
+    private static long collectionTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) time += Math.max(0, collector.getCollectionTime());
+
+        return time;
+    }
+}
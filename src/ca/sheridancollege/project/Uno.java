@@ -2,9 +2,15 @@ package ca.sheridancollege.project;
 
 import ca.sheridancollege.project.game.Game;
 import ca.sheridancollege.project.player.HumanPlayer;
+import ca.sheridancollege.project.player.Player;
 import ca.sheridancollege.project.util.Command;
 import ca.sheridancollege.project.util.Message;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * The {@code Card} class represents a UNO program.
  *
@@ -39,7 +45,33 @@ class Client {
     }
 
     void playGame() {
-        gameSession.playGame();
+        // The game is played on its own thread, also when it is resumed after a Wild Draw 4 challenge times out
+        ExecutorService gameExecutor =
+            Executors.newSingleThreadExecutor(runnable -> daemonThread(runnable, "uno-game"));
+        try {
+            CompletableFuture<Player> result = gameSession.playGameAsync(gameExecutor);
+
+            // The input is read on another thread, so that this thread returns as soon as the game is over
+            Executor inputExecutor = runnable -> daemonThread(runnable, "uno-input").start();
+            CompletableFuture<Void> input = CompletableFuture.runAsync(() -> readInput(result), inputExecutor);
+
+            CompletableFuture.anyOf(result, input).join();
+        } finally {
+            gameExecutor.shutdown();
+        }
+    }
+
+    /* Posts the lines of input to the game until the game is over or the input ends. */
+    private void readInput(CompletableFuture<Player> result) {
+        String line;
+        while (!result.isDone() && (line = Command.readLine()) != null) gameSession.post(player, line);
+    }
+
+    /* The threads of the client do not keep the program running after the game. */
+    private static Thread daemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
     }
 
     private void enterGameRoom() {
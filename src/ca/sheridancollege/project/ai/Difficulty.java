@@ -0,0 +1,62 @@
+package ca.sheridancollege.project.ai;
+
+import ca.sheridancollege.project.player.ComputerPlayer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <p>The {@code Difficulty} enum defines the tiers of the {@linkplain IsmctsPlayer search players} by the time
+ * budget per move and the number of the workers that search in parallel.</p>
+ */
+public enum Difficulty {
+    EASY(10, 1),
+    NORMAL(50, 2),
+    HARD(200, Runtime.getRuntime().availableProcessors());
+
+    private final long budgetMillis;
+    private final int workers;
+
+    Difficulty(long budgetMillis, int workers) {
+        this.budgetMillis = budgetMillis;
+        this.workers = workers;
+    }
+
+    /**
+     * Returns the time budget per move in milliseconds.
+     *
+     * @return the time budget per move
+     */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * Returns the number of the workers that search in parallel.
+     *
+     * @return the number of the workers
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Returns a new search of this difficulty.
+     *
+     * @param executor the executor of the workers
+     * @return the new search
+     */
+    public IsmctsSearch newSearch(Executor executor) {
+        return new IsmctsSearch(executor, workers, budgetMillis);
+    }
+
+    /**
+     * Returns the factory of the computer players of this difficulty, which share a search on the executor.
+     *
+     * @param executor the executor of the workers
+     * @return the factory of the computer players
+     */
+    public ComputerPlayer.Factory computerFactory(Executor executor) {
+        IsmctsSearch search = newSearch(executor);
+        return (id, gameSession, rng) -> new IsmctsPlayer(id, gameSession, rng, search);
+    }
+}
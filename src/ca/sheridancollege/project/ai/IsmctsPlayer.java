@@ -0,0 +1,96 @@
+package ca.sheridancollege.project.ai;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardCode;
+import ca.sheridancollege.project.card.WildCard;
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.player.ComputerPlayer;
+
+import java.util.SplittableRandom;
+
+/**
+ * <p>The {@code IsmctsPlayer} class represents a CPU player that chooses each move by
+ * {@linkplain IsmctsSearch Information Set Monte Carlo Tree Search} over the cards it cannot see.</p>
+ *
+ * <p>The player calls "UNO" whenever it plays its second last card, declares the colour of the most cards in its
+ * hand for a Wild card that it draws and plays at once, and challenges a Wild Draw 4 card as a
+ * {@link ComputerPlayer} does.</p>
+ */
+public class IsmctsPlayer extends ComputerPlayer {
+    private static final Card.Color[] COLORS = Card.Color.values();
+
+    private final IsmctsSearch search;
+
+    // Split from the source of randomness of the game, not shared with any other thread
+    private final SplittableRandom rng;
+
+    /**
+     * A constructor that sets the player name in the format "Player {number}", the source of randomness for the
+     * determinizations, and the search of the moves.
+     *
+     * @param id          player number as a suffix for this player ID
+     * @param gameSession the game room
+     * @param rng         the source of randomness for the decisions of this player
+     * @param search      the search of the moves, which may be shared by the players
+     */
+    public IsmctsPlayer(int id, Game gameSession, SplittableRandom rng, IsmctsSearch search) {
+        super(id, gameSession, rng);
+        this.search = search;
+        this.rng = rng;
+    }
+
+    @Override
+    public boolean play() {
+        int move = search.search(SearchState.observe(gameSession, this), rng);
+        if (move == SearchState.DRAW) {
+            drawCard();
+            return true;
+        }
+
+        int face = move & 0xFF;
+        int size = handCards.size();
+        for (int i = 0; i < size; i++) {
+            if (CardCode.face(handCards.get(i).getCode()) == face) {
+                // Auto UNO call
+                callUno();
+
+                Card card = handCards.remove(i);
+                gameSession.playCard(card, card instanceof WildCard ? COLORS[(move >>> Byte.SIZE) - 1] : null);
+                return true;
+            }
+        }
+
+        throw new IllegalStateException("No card for the move: " + move);
+    }
+
+    @Override
+    public void drawCard() {
+        Card card = gameSession.draw(this);
+        if (card == null) return;
+
+        // Play the drawn card at once if it is playable, as the search assumes
+        boolean playable = Game.isWildDrawFour(card)
+                               ? nonMatchColor(gameSession.getCurrentColor())
+                               : gameSession.isPlayableCard(card);
+        if (playable) {
+            gameSession.playCard(card, card instanceof WildCard ? chooseColor() : null);
+        } else {
+            addHand(card);
+        }
+    }
+
+    /**
+     * Returns the colour of the most cards in the hand.
+     *
+     * @return the colour of the most cards in the hand
+     */
+    @Override
+    public Card.Color chooseColor() {
+        Card.Color color = COLORS[0];
+        for (Card.Color c : COLORS) {
+            if (handCards.countColor(c) > handCards.countColor(color)) color = c;
+        }
+
+        return color;
+    }
+}
@@ -0,0 +1,128 @@
+package ca.sheridancollege.project.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>The {@code IsmctsSearch} class chooses a move by Information Set Monte Carlo Tree Search.</p>
+ *
+ * <p>Each iteration samples a determinization of the hidden cards, descends the tree through the moves that are
+ * legal in it, adds a new move, plays the rest of the game at random, and updates the rewards along the path.
+ * The search is root-parallel: each worker grows its own tree on the executor until the time budget (or the
+ * iteration limit) is spent, without any sharing, and the visits of the moves at the roots are summed up.
+ * So the quality of a move grows with both the number of workers and the milliseconds.</p>
+ */
+public final class IsmctsSearch {
+    // The exploration constant of the upper confidence bound
+    private static final double EXPLORATION = 0.7;
+
+    // The deadline is checked once in this number of iterations
+    private static final int CLOCK_INTERVAL = 16;
+
+    private final Executor executor;
+    private final int workers;
+    private final long budgetNanos;
+    private final long maxIterations;
+
+    /**
+     * Constructs a search with the time budget per move.
+     *
+     * @param executor     the executor of the workers except the first, which runs on the calling thread
+     * @param workers      the number of the workers (the independent trees)
+     * @param budgetMillis the time budget per move in milliseconds
+     */
+    public IsmctsSearch(Executor executor, int workers, long budgetMillis) {
+        this(executor, workers, budgetMillis, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a search with the time budget and the limit of the iterations of each worker per move.
+     * The search with a single worker and no time limit ({@link Long#MAX_VALUE}) is reproducible.
+     *
+     * @param executor      the executor of the workers except the first, which runs on the calling thread
+     * @param workers       the number of the workers (the independent trees)
+     * @param budgetMillis  the time budget per move in milliseconds
+     * @param maxIterations the maximum number of the iterations of each worker per move
+     */
+    public IsmctsSearch(Executor executor, int workers, long budgetMillis, long maxIterations) {
+        if (workers < 1) throw new IllegalArgumentException("workers: " + workers);
+
+        this.executor = executor;
+        this.workers = workers;
+        budgetNanos = budgetMillis == Long.MAX_VALUE ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.maxIterations = Math.max(1, maxIterations);
+    }
+
+    /**
+     * Returns the number of the workers.
+     *
+     * @return the number of the workers
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /* Returns the best move of the current player in the observed state. */
+    int search(SearchState observed, SplittableRandom rng) {
+        long deadline = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+
+        List<CompletableFuture<Node>> others = new ArrayList<>(workers - 1);
+        for (int i = 1; i < workers; i++) {
+            SplittableRandom workerRng = rng.split();
+            others.add(CompletableFuture.supplyAsync(() -> grow(observed, workerRng, deadline), executor));
+        }
+        Node root = grow(observed, rng.split(), deadline);
+
+        long[] visitsByMove = new long[SearchState.MOVE_LIMIT + 1];
+        root.addVisits(visitsByMove);
+        for (CompletableFuture<Node> other : others) other.join().addVisits(visitsByMove);
+
+        int best = SearchState.DRAW;
+        for (int i = 0; i < visitsByMove.length; i++) {
+            if (visitsByMove[i] > visitsByMove[best + 1]) best = i - 1;
+        }
+
+        return best;
+    }
+
+    /* Grows a tree from the observed state until the deadline or the iteration limit. */
+    private Node grow(SearchState observed, SplittableRandom rng, long deadline) {
+        boolean timed = budgetNanos != Long.MAX_VALUE;
+        Node root = new Node(null, SearchState.DRAW, -1);
+        SearchState state = new SearchState(observed.getPlayers());
+        int[] moves = new int[SearchState.MOVE_LIMIT];
+        int[] untried = new int[SearchState.MOVE_LIMIT];
+
+        for (long iteration = 0; iteration < maxIterations; iteration++) {
+            if (timed && iteration % CLOCK_INTERVAL == 0 && iteration > 0 && System.nanoTime() - deadline > 0) break;
+
+            state.determinize(observed, rng);
+
+            // Select the moves of the tree, and expand a new move
+            Node node = root;
+            while (state.isRunning()) {
+                int n = state.legalMoves(moves);
+                int count = node.untriedMoves(moves, n, untried);
+                if (count > 0) {
+                    int move = untried[rng.nextInt(count)];
+                    node = node.addChild(move, state.getCurrentSeat());
+                    state.apply(move);
+                    break;
+                }
+
+                node = node.select(moves, n, EXPLORATION);
+                state.apply(node.move);
+            }
+
+            // Simulate, and propagate the rewards back
+            state.playout(moves);
+            for (; node != root; node = node.parent) node.update(state.reward(node.player));
+        }
+
+        return root;
+    }
+}
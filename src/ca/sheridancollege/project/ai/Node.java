@@ -0,0 +1,123 @@
+package ca.sheridancollege.project.ai;
+
+/**
+ * <p>The {@code Node} class is a node of the information set search tree.</p>
+ *
+ * <p>A node is reached by a move from its parent. Since the legal moves differ from one determinization to
+ * another, a child is selected by the upper confidence bound over the number of times it was
+ * <i>available</i>, rather than the number of visits to its parent.</p>
+ */
+final class Node {
+    private static final Node[] NO_CHILDREN = { };
+
+    // The move to this node and the seat of the player who made it
+    final int move;
+    final int player;
+    final Node parent;
+
+    private Node[] children = NO_CHILDREN;
+    private int childCount;
+
+    // The total reward of the player, and the numbers of visits and availability
+    private double reward;
+    private int visits;
+    private int availability = 1;
+
+    Node(Node parent, int move, int player) {
+        this.parent = parent;
+        this.move = move;
+        this.player = player;
+    }
+
+    /**
+     * Collects the legal moves that have no child yet, and counts the availability of the other legal moves.
+     *
+     * @param moves    the legal moves
+     * @param n        the number of the legal moves
+     * @param untried  the buffer to store the moves without a child
+     * @return the number of the moves without a child
+     */
+    int untriedMoves(int[] moves, int n, int[] untried) {
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            Node child = getChild(moves[i]);
+            if (child != null) {
+                child.availability++;
+            } else {
+                untried[count++] = moves[i];
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Selects the child of the legal moves with the highest upper confidence bound.
+     *
+     * @param moves       the legal moves, all of which have a child
+     * @param n           the number of the legal moves
+     * @param exploration the exploration constant
+     * @return the selected child
+     */
+    Node select(int[] moves, int n, double exploration) {
+        Node best = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            Node child = getChild(moves[i]);
+            double value = child.reward / child.visits
+                               + exploration * Math.sqrt(Math.log(child.availability) / child.visits);
+            if (value > bestValue) {
+                best = child;
+                bestValue = value;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Adds a child of the move by the player.
+     *
+     * @param childMove   the move to the child
+     * @param childPlayer the seat of the player who makes the move
+     * @return the new child
+     */
+    Node addChild(int childMove, int childPlayer) {
+        if (childCount == children.length) {
+            Node[] grown = new Node[Math.max(4, childCount * 2)];
+            System.arraycopy(children, 0, grown, 0, childCount);
+            children = grown;
+        }
+
+        Node child = new Node(this, childMove, childPlayer);
+        children[childCount++] = child;
+        return child;
+    }
+
+    /**
+     * Adds the reward of the player who made the move to this node.
+     *
+     * @param playerReward the reward of the player
+     */
+    void update(double playerReward) {
+        visits++;
+        reward += playerReward;
+    }
+
+    /**
+     * Adds the number of visits of each child to the array indexed by {@code move + 1}.
+     *
+     * @param visitsByMove the number of visits of the moves
+     */
+    void addVisits(long[] visitsByMove) {
+        for (int i = 0; i < childCount; i++) visitsByMove[children[i].move + 1] += children[i].visits;
+    }
+
+    private Node getChild(int childMove) {
+        for (int i = 0; i < childCount; i++) {
+            if (children[i].move == childMove) return children[i];
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,375 @@
+package ca.sheridancollege.project.ai;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardCode;
+import ca.sheridancollege.project.card.CardCompatibility;
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.game.TurnOrder;
+import ca.sheridancollege.project.player.Player;
+
+import java.util.SplittableRandom;
+
+/**
+ * <p>The {@code SearchState} class is a compact, headless copy of the state of a {@link Game} for the search.</p>
+ *
+ * <p>A state {@linkplain #observe(Game, Player) observed} by a player holds only what the player knows:
+ * their own hand, the Discard pile, and the number of cards of the other players. A <i>determinization</i>
+ * deals the unseen cards at random to the other players and the Draw pile, so that the moves can be played
+ * out to the end of the game. The rules follow the {@link Game} without the "UNO" calls and the challenges,
+ * and a Wild Draw 4 card is played only if the player has no card of the current colour.</p>
+ *
+ * <p>A move is the {@linkplain CardCode#face(short) face} of the card to play, with the declared colour
+ * ({@code ordinal + 1}) in the second byte for a Wild card, or {@link #DRAW} to draw a card.
+ * A playable card drawn is played at once.</p>
+ */
+final class SearchState {
+    /**
+     * The move to draw a card is {@value}.
+     */
+    static final int DRAW = -1;
+
+    /**
+     * The moves are less than {@value}.
+     */
+    static final int MOVE_LIMIT = 5 << Byte.SIZE;
+
+    // A random playout is cut off after this number of moves
+    private static final int MAX_MOVES = 1_000;
+
+    private static final int COLORS = Card.Color.values().length;
+    private static final int SKIP = Card.Value.SKIP.ordinal();
+    private static final int REVERSE = Card.Value.REVERSE.ordinal();
+    private static final int DRAW_TWO = Card.Value.DRAW_TWO.ordinal();
+    private static final int WILD = Card.Value.WILD.ordinal();
+    private static final int WILD_DRAW_FOUR = Card.Value.WILD_DRAW_FOUR.ordinal();
+
+    private final int players;
+    private final short[][] hands;
+    private final int[] handSizes;
+
+    // The Draw pile (the last element is the top) and the Discard pile (the last element is the top)
+    private final short[] drawPile = new short[CardCode.CLASSIC_CARDS];
+    private int drawSize;
+    private final short[] discardPile = new short[CardCode.CLASSIC_CARDS];
+    private int discardSize;
+
+    // The cards that the observer has not seen (only in an observed state)
+    private final short[] unseen = new short[CardCode.CLASSIC_CARDS];
+    private int unseenSize;
+
+    private int observer;
+    private int color;
+    private int current;
+    private int direction;
+    private int winner;
+    private int moves;
+
+    // The source of randomness for the recycling of the Discard pile
+    private SplittableRandom rng;
+
+    SearchState(int players) {
+        this.players = players;
+        hands = new short[players][CardCode.CLASSIC_CARDS];
+        handSizes = new int[players];
+    }
+
+    /**
+     * Returns the state of the game observed by the specified player.
+     *
+     * @param game     the game
+     * @param observer the player in the game
+     * @return the observed state
+     */
+    static SearchState observe(Game game, Player observer) {
+        TurnOrder turnOrder = game.getTurnOrder();
+        SearchState state = new SearchState(turnOrder.size());
+        boolean[] seen = new boolean[CardCode.CLASSIC_CARDS];
+
+        state.observer = turnOrder.seatOf(observer);
+        for (int seat = 0; seat < state.players; seat++) {
+            state.handSizes[seat] = turnOrder.getPlayer(seat).handSize();
+        }
+
+        short[] hand = state.hands[state.observer];
+        for (int i = 0; i < hand.length && i < observer.handSize(); i++) {
+            hand[i] = observer.getHandCard(i).getCode();
+            seen[CardCode.index(hand[i])] = true;
+        }
+        for (int i = 0; i < game.getDiscardPileSize(); i++) {
+            short code = game.getDiscardCode(i);
+            state.discardPile[state.discardSize++] = code;
+            seen[CardCode.index(code)] = true;
+        }
+        for (int index = 0; index < CardCode.CLASSIC_CARDS; index++) {
+            if (!seen[index]) state.unseen[state.unseenSize++] = CardCode.fromIndex(index);
+        }
+
+        state.color = game.getCurrentColor().ordinal();
+        state.current = turnOrder.getCurrentSeat();
+        state.direction = turnOrder.isLeft() ? 1 : -1;
+        state.winner = -1;
+
+        return state;
+    }
+
+    /**
+     * Makes this state a random determinization of the observed state.
+     *
+     * @param observed the observed state with the same number of players
+     * @param random   the source of randomness
+     */
+    void determinize(SearchState observed, SplittableRandom random) {
+        rng = random;
+        observer = observed.observer;
+        color = observed.color;
+        current = observed.current;
+        direction = observed.direction;
+        winner = -1;
+        moves = 0;
+
+        discardSize = observed.discardSize;
+        System.arraycopy(observed.discardPile, 0, discardPile, 0, discardSize);
+
+        // Shuffle the unseen cards into the Draw pile, and deal them to the other players
+        drawSize = observed.unseenSize;
+        System.arraycopy(observed.unseen, 0, drawPile, 0, drawSize);
+        shuffle(drawPile, drawSize);
+
+        for (int seat = 0; seat < players; seat++) {
+            if (seat == observer) {
+                handSizes[seat] = observed.handSizes[seat];
+                System.arraycopy(observed.hands[seat], 0, hands[seat], 0, handSizes[seat]);
+                continue;
+            }
+
+            int size = Math.min(observed.handSizes[seat], drawSize);
+            drawSize -= size;
+            System.arraycopy(drawPile, drawSize, hands[seat], 0, size);
+            handSizes[seat] = size;
+        }
+    }
+
+    /**
+     * Returns the number of players.
+     *
+     * @return the number of players
+     */
+    int getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the seat of the player to move.
+     *
+     * @return the current seat
+     */
+    int getCurrentSeat() {
+        return current;
+    }
+
+    /**
+     * Returns {@code true} if the game has not ended.
+     *
+     * @return {@code true} if the game is running
+     */
+    boolean isRunning() {
+        return winner < 0 && moves < MAX_MOVES;
+    }
+
+    /**
+     * Stores the legal moves of the current player in the buffer, the last of which is always {@link #DRAW}.
+     *
+     * @param buffer the buffer of at least {@link #MOVE_LIMIT} elements
+     * @return the number of the moves
+     */
+    int legalMoves(int[] buffer) {
+        short[] hand = hands[current];
+        int size = handSizes[current];
+        short top = discardPile[discardSize - 1];
+        boolean hasColor = hasColor(current);
+
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            short code = hand[i];
+            if (!CardCompatibility.isPlayable(top, color, code)) continue;
+
+            int face = CardCode.face(code);
+            int value = CardCode.valueOrdinal(code);
+            if (value == WILD_DRAW_FOUR && hasColor) continue;
+
+            if (value >= WILD) {
+                for (int c = 0; c < COLORS; c++) n = addMove(buffer, n, face | (c + 1) << Byte.SIZE);
+            } else {
+                n = addMove(buffer, n, face);
+            }
+        }
+        buffer[n++] = DRAW;
+
+        return n;
+    }
+
+    /**
+     * Plays the move of the current player, and moves the turn to the next player.
+     *
+     * @param move a legal move of the current player
+     */
+    void apply(int move) {
+        int seat = current;
+        moves++;
+
+        if (move == DRAW) {
+            short code = draw();
+            if (code < 0) {
+                advance();
+            } else if (isPlayable(seat, code)) {
+                play(seat, code, CardCode.valueOrdinal(code) >= WILD ? mostColor(seat) : -1);
+            } else {
+                hands[seat][handSizes[seat]++] = code;
+                advance();
+            }
+            return;
+        }
+
+        short[] hand = hands[seat];
+        int face = move & 0xFF;
+        for (int i = 0; i < handSizes[seat]; i++) {
+            if (CardCode.face(hand[i]) == face) {
+                short code = hand[i];
+                hand[i] = hand[--handSizes[seat]];
+                play(seat, code, (move >>> Byte.SIZE) - 1);
+                return;
+            }
+        }
+
+        throw new IllegalArgumentException("Illegal move: " + move);
+    }
+
+    /**
+     * Plays random moves until the game ends. A player draws a card only if no card is playable.
+     *
+     * @param buffer the buffer of the legal moves of at least {@link #MOVE_LIMIT} elements
+     */
+    void playout(int[] buffer) {
+        while (isRunning()) {
+            int n = legalMoves(buffer);
+            apply(n > 1 ? buffer[rng.nextInt(n - 1)] : DRAW);
+        }
+    }
+
+    /**
+     * Returns the reward of the specified player at the end of a game: {@code 1} for the winner and {@code 0}
+     * for the others. If the game is cut off, the players with the fewest cards share the reward.
+     *
+     * @param seat the seat of the player
+     * @return the reward of the player
+     */
+    double reward(int seat) {
+        if (winner >= 0) return winner == seat ? 1 : 0;
+
+        int fewest = Integer.MAX_VALUE;
+        int leaders = 0;
+        for (int size : handSizes) {
+            if (size < fewest) {
+                fewest = size;
+                leaders = 1;
+            } else if (size == fewest) {
+                leaders++;
+            }
+        }
+
+        return handSizes[seat] == fewest ? 1.0 / leaders : 0;
+    }
+
+    /* Adds the move to the buffer unless it is already in it, and returns the new number of the moves. */
+    private static int addMove(int[] buffer, int n, int move) {
+        for (int i = 0; i < n; i++) {
+            if (buffer[i] == move) return n;
+        }
+
+        buffer[n] = move;
+        return n + 1;
+    }
+
+    private void play(int seat, short code, int declaredColor) {
+        discardPile[discardSize++] = code;
+
+        int value = CardCode.valueOrdinal(code);
+        color = value >= WILD ? declaredColor : CardCode.colorOrdinal(code);
+        if (handSizes[seat] == 0) {
+            winner = seat;
+            return;
+        }
+
+        if (value == SKIP) {
+            advance();
+        } else if (value == REVERSE) {
+            direction = -direction;
+        } else if (value == DRAW_TWO || value == WILD_DRAW_FOUR) {
+            // The next player must draw the cards and lose their turn
+            advance();
+            for (int i = value == DRAW_TWO ? 2 : 4; i > 0; i--) {
+                short drawn = draw();
+                if (drawn < 0) break;
+
+                hands[current][handSizes[current]++] = drawn;
+            }
+        }
+        advance();
+    }
+
+    /* Draws the top card of the Draw pile, or returns -1 if no cards are left to draw. */
+    private short draw() {
+        if (drawSize == 0) {
+            // Shuffle the Discard pile except for the top card into a new Draw pile
+            drawSize = discardSize - 1;
+            System.arraycopy(discardPile, 0, drawPile, 0, drawSize);
+            shuffle(drawPile, drawSize);
+
+            discardPile[0] = discardPile[discardSize - 1];
+            discardSize = 1;
+        }
+
+        return drawSize > 0 ? drawPile[--drawSize] : -1;
+    }
+
+    private boolean isPlayable(int seat, short code) {
+        return CardCompatibility.isPlayable(discardPile[discardSize - 1], color, code)
+                   && (CardCode.valueOrdinal(code) != WILD_DRAW_FOUR || !hasColor(seat));
+    }
+
+    private boolean hasColor(int seat) {
+        short[] hand = hands[seat];
+        for (int i = 0; i < handSizes[seat]; i++) {
+            if (CardCode.colorOrdinal(hand[i]) == color) return true;
+        }
+
+        return false;
+    }
+
+    /* Returns the colour of the most cards in the hand of the player. */
+    private int mostColor(int seat) {
+        int[] counts = new int[CardCode.NO_COLOR + 1];
+        short[] hand = hands[seat];
+        for (int i = 0; i < handSizes[seat]; i++) counts[CardCode.colorOrdinal(hand[i])]++;
+
+        int most = 0;
+        for (int c = 1; c < COLORS; c++) {
+            if (counts[c] > counts[most]) most = c;
+        }
+
+        return most;
+    }
+
+    private void advance() {
+        current = Math.floorMod(current + direction, players);
+    }
+
+    private void shuffle(short[] codes, int size) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            short code = codes[i];
+            codes[i] = codes[j];
+            codes[j] = code;
+        }
+    }
+}
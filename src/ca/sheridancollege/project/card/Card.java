@@ -1,7 +1,5 @@
 package ca.sheridancollege.project.card;
 
-import ca.sheridancollege.project.util.Message;
-
 import java.util.Locale;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -10,6 +8,9 @@ import java.util.stream.Stream;
 /**
  * The {@code Card} class represents a basic UNO card.
  *
+ * <p>A card is immutable. The 108 cards of the classic Uno deck are shared by all the games
+ * (see {@link CardCode#toCard(short)}), and the colour declared for a Wild card is held by the game.</p>
+ *
  * <p>Date: February 22, 2021</p>
  *
  * <b>Group Members</b>
@@ -20,7 +21,8 @@ import java.util.stream.Stream;
  */
 public class Card implements Comparable<Card> {
     private final Value value;
-    private Color color;
+    private final short code;
+    private final Color color;
 
     /**
      * Constructs a new {@code Card} object by the specified {@linkplain Color color} and {@linkplain Value value}.
@@ -29,36 +31,50 @@ public class Card implements Comparable<Card> {
      * @param value the {@linkplain Value value} of this card
      */
     public Card(Color color, Value value) {
+        this(color, value, 0);
+    }
+
+    /**
+     * Constructs a new {@code Card} object by the specified {@linkplain Color color}, {@linkplain Value value},
+     * and copy index in the deck.
+     *
+     * @param color the colour of this card
+     * @param value the {@linkplain Value value} of this card
+     * @param copy  the copy index of this card in the deck
+     * @see CardCode#encode(Color, Value, int)
+     */
+    public Card(Color color, Value value, int copy) {
         this.color = color;
         this.value = value;
+        code = CardCode.encode(color, value, copy);
     }
 
     /**
      * Returns the colour of the card.
      *
-     * @return the colour of the card.
+     * @return the colour of the card, or {@code null} for Wild cards.
      */
     public Color getColor() {
         return color;
     }
 
     /**
-     * Sets the colour of the card declared by the player.
-     * Used with {@code WildCard} and {@code WildDrawFourCard} cards.
+     * Returns the value, or action, of the card.
      *
-     * @param color The colour of the card declared by the player
+     * @return the value, or action, of the card.
      */
-    protected void setColor(Color color) {
-        this.color = color;
+    public Value getValue() {
+        return value;
     }
 
     /**
-     * Returns the value, or action, of the card.
+     * Returns the {@linkplain CardCode card code} of this card.
+     * The code of a Wild card does not include the colour declared by the player.
      *
-     * @return the value, or action, of the card.
+     * @return the card code of this card
      */
-    public Value getValue() {
-        return value;
+    public short getCode() {
+        return code;
     }
 
     /**
@@ -72,9 +88,24 @@ public class Card implements Comparable<Card> {
     }
 
     /**
-     * Shows the message about this card action.
+     * Determines whether or not this card matches the specified colour or value.
+     *
+     * @param color the colour to compare this card against (the declared colour for Wild cards)
+     * @param value the value to compare this card against
+     * @return {@code true} if this card matches the colour or value, otherwise {@code false}
      */
-    public void showMessage() { }
+    public boolean matchCard(Color color, Value value) {
+        return (color != null && this.color == color) || this.value == value;
+    }
+
+    /**
+     * Returns the message about this card action.
+     *
+     * @return the message about this card action, or {@code null} if this card has no action
+     */
+    public String getActionMessage() {
+        return null;
+    }
 
     @Override
     public int hashCode() {
@@ -101,12 +132,13 @@ public class Card implements Comparable<Card> {
 
     /**
      * Returns a {@code String} object representing this {@code Card}'s value.
+     * The string is looked up from the {@linkplain CardLabels#getDefault() default labels}.
      *
      * @return a string representation of the values of this object
      */
     @Override
     public String toString() {
-        return String.format(Message.getMessage("card.value.of.color"), value, color);
+        return CardLabels.getDefault().getLabel(color, value);
     }
 
     @Override
@@ -176,6 +208,9 @@ public class Card implements Comparable<Card> {
         private final int number;
         private final int points;
 
+        // The display string of this value, e.g. "Wild Draw Four"
+        private final String label;
+
         /**
          * Initializes the {@code Value} with the specified value.
          * The {@code points} are the same as the {@code number}, and the {@code type} is {@code UnoCardType.Number}.
@@ -195,6 +230,10 @@ public class Card implements Comparable<Card> {
         Value(int n, int points) {
             number = n;
             this.points = points;
+
+            label = Stream.of(name().split("_"))
+                          .map(str -> str.charAt(0) + str.substring(1).toLowerCase(Locale.ROOT))
+                          .collect(Collectors.joining(" "));
         }
 
         public int getNumber() {
@@ -207,9 +246,7 @@ public class Card implements Comparable<Card> {
 
         @Override
         public String toString() {
-            return Stream.of(name().split("_"))
-                         .map(str -> str.charAt(0) + str.substring(1).toLowerCase(Locale.ROOT))
-                         .collect(Collectors.joining(" "));
+            return label;
         }
     }
 }
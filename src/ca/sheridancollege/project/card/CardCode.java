@@ -0,0 +1,231 @@
+package ca.sheridancollege.project.card;
+
+import ca.sheridancollege.project.card.Card.Color;
+import ca.sheridancollege.project.card.Card.Value;
+
+import java.util.Arrays;
+
+/**
+ * This class consists only of static methods that operate the compact encoding of Uno cards.
+ *
+ * <p>A card code is a {@code short} made from the {@linkplain Color colour} ordinal,
+ * the {@linkplain Value value} ordinal, and the copy index of the card in the deck.
+ * The Wild cards have no colour, and their colour ordinal is {@link #NO_COLOR}.</p>
+ *
+ * <p>Each card in the classic Uno deck also has a dense index from {@code 0} to {@link #CLASSIC_CARDS} - 1
+ * (see {@link #index(short)}) for arrays and bit sets.</p>
+ */
+public final class CardCode {
+    /**
+     * The colour ordinal of the cards without colour (Wild cards) is {@value}.
+     */
+    public static final int NO_COLOR = 4;
+
+    /**
+     * The number of cards in classic Uno is {@value}.
+     */
+    public static final int CLASSIC_CARDS = 108;
+
+    /**
+     * The Number of cards 1 to 9, {@code Skip}, {@code Reverse}, and {@code Draw Two}
+     * are {@value} each in the four colours.
+     */
+    public static final int COMMON_CARD_SETS = 2;
+
+    /**
+     * The Number of {@code Wild} and {@code Wild Draw Four} cards are {@value} each in the Uno deck.
+     */
+    public static final int CLASSIC_WILD_CARDS = 4;
+
+    private static final int COPY_BITS = 2;
+    private static final int VALUE_BITS = 5;
+    private static final int COLOR_BITS = 3;
+
+    private static final int COPY_MASK = (1 << COPY_BITS) - 1;
+    private static final int VALUE_MASK = (1 << VALUE_BITS) - 1;
+
+    private static final Color[] COLORS = Color.values();
+    private static final Value[] VALUES = Value.values();
+
+    // The card codes of the classic Uno deck by the dense index
+    private static final short[] CLASSIC_CODES = new short[CLASSIC_CARDS];
+
+    // The dense indexes by the card code (-1 if the code is not in the classic Uno deck)
+    private static final byte[] INDEXES = new byte[1 << (COLOR_BITS + VALUE_BITS + COPY_BITS)];
+
+    // The shared cards of the classic Uno deck by the dense index
+    private static final Card[] CLASSIC_CARDS_TABLE = new Card[CLASSIC_CARDS];
+
+    static {
+        Arrays.fill(INDEXES, (byte) -1);
+
+        int index = 0;
+        for (Color color : COLORS) {
+            index = addClassicCode(index, encode(color, Value.ZERO, 0));
+
+            // 1 to 9, Skip, Reverse, and "Draw Two" cards
+            for (int copy = 0; copy < COMMON_CARD_SETS; copy++) {
+                for (int value = Value.ONE.ordinal(); value <= Value.DRAW_TWO.ordinal(); value++) {
+                    index = addClassicCode(index, encode(color, VALUES[value], copy));
+                }
+            }
+        }
+
+        // Wild and "Wild Draw Four" cards
+        for (int copy = 0; copy < CLASSIC_WILD_CARDS; copy++) {
+            index = addClassicCode(index, encode(null, Value.WILD, copy));
+            index = addClassicCode(index, encode(null, Value.WILD_DRAW_FOUR, copy));
+        }
+
+        for (int i = 0; i < CLASSIC_CARDS; i++) CLASSIC_CARDS_TABLE[i] = newCard(CLASSIC_CODES[i]);
+    }
+
+    private CardCode() { }
+
+    /**
+     * Returns the card code of the specified colour, value, and copy index.
+     *
+     * @param color the colour of the card, or {@code null} for Wild cards
+     * @param value the value of the card
+     * @param copy  the copy index of the card in the deck
+     * @return the card code
+     */
+    public static short encode(Color color, Value value, int copy) {
+        int colorOrdinal = color != null ? color.ordinal() : NO_COLOR;
+        return (short) ((colorOrdinal << (VALUE_BITS + COPY_BITS)) | (value.ordinal() << COPY_BITS) | copy);
+    }
+
+    /**
+     * Returns the colour ordinal of the specified card code.
+     *
+     * @param code the card code
+     * @return the colour ordinal, or {@link #NO_COLOR} for Wild cards
+     */
+    public static int colorOrdinal(short code) {
+        return code >>> (VALUE_BITS + COPY_BITS);
+    }
+
+    /**
+     * Returns the colour of the specified card code.
+     *
+     * @param code the card code
+     * @return the colour, or {@code null} for Wild cards
+     */
+    public static Color color(short code) {
+        int colorOrdinal = colorOrdinal(code);
+        return colorOrdinal != NO_COLOR ? COLORS[colorOrdinal] : null;
+    }
+
+    /**
+     * Returns the value ordinal of the specified card code.
+     *
+     * @param code the card code
+     * @return the value ordinal
+     */
+    public static int valueOrdinal(short code) {
+        return (code >>> COPY_BITS) & VALUE_MASK;
+    }
+
+    /**
+     * Returns the value of the specified card code.
+     *
+     * @param code the card code
+     * @return the value
+     */
+    public static Value value(short code) {
+        return VALUES[valueOrdinal(code)];
+    }
+
+    /**
+     * Returns the copy index of the specified card code.
+     *
+     * @param code the card code
+     * @return the copy index in the deck
+     */
+    public static int copy(short code) {
+        return code & COPY_MASK;
+    }
+
+    /**
+     * Returns the face of the specified card code, i.e. the colour and value without the copy index.
+     * The identical cards have the same face.
+     *
+     * @param code the card code
+     * @return the face of the card, from {@code 0} to {@code 255}
+     */
+    public static int face(short code) {
+        return code >>> COPY_BITS;
+    }
+
+    /**
+     * Returns {@code true} if the specified card code is in the classic Uno deck.
+     *
+     * @param code the card code, which may be any value (e.g. read from a file)
+     * @return {@code true} if the code is in the classic Uno deck, otherwise {@code false}
+     */
+    public static boolean isClassic(short code) {
+        return code >= 0 && code < INDEXES.length && INDEXES[code] >= 0;
+    }
+
+    /**
+     * Returns the dense index of the specified card code in the classic Uno deck.
+     *
+     * @param code the card code
+     * @return the index from {@code 0} to {@link #CLASSIC_CARDS} - 1,
+     *     or {@code -1} if the code is not in the classic Uno deck
+     */
+    public static int index(short code) {
+        return INDEXES[code];
+    }
+
+    /**
+     * Returns the card code of the specified dense index in the classic Uno deck.
+     *
+     * @param index the dense index from {@code 0} to {@link #CLASSIC_CARDS} - 1
+     * @return the card code
+     */
+    public static short fromIndex(int index) {
+        return CLASSIC_CODES[index];
+    }
+
+    /**
+     * Returns a copy of the card codes in the classic Uno deck in the order of the dense index.
+     *
+     * @return the card codes of the classic Uno deck
+     */
+    public static short[] classicCodes() {
+        return CLASSIC_CODES.clone();
+    }
+
+    /**
+     * Returns the shared {@code Card} object of the specified card code in the classic Uno deck.
+     *
+     * @param code the card code in the classic Uno deck
+     * @return the card of the code
+     */
+    public static Card toCard(short code) {
+        return CLASSIC_CARDS_TABLE[INDEXES[code]];
+    }
+
+    /* Constructs a new Card object of the specified card code. */
+    private static Card newCard(short code) {
+        Color color = color(code);
+        int copy = copy(code);
+
+        return switch (value(code)) {
+            case SKIP -> new SkipCard(color, copy);
+            case REVERSE -> new ReverseCard(color, copy);
+            case DRAW_TWO -> new DrawTwoCard(color, copy);
+            case WILD -> new WildCard(copy);
+            case WILD_DRAW_FOUR -> new WildDrawFourCard(copy);
+            default -> new Card(color, value(code), copy);
+        };
+    }
+
+    private static int addClassicCode(int index, short code) {
+        CLASSIC_CODES[index] = code;
+        INDEXES[code] = (byte) index;
+
+        return index + 1;
+    }
+}
@@ -0,0 +1,125 @@
+package ca.sheridancollege.project.card;
+
+import ca.sheridancollege.project.card.Card.Color;
+import ca.sheridancollege.project.card.Card.Value;
+
+/**
+ * This class consists only of static methods that answer which cards of the classic Uno deck can be played
+ * on the top card of the Discard pile, by a precomputed table.
+ *
+ * <p>The table has a row of {@link #WORDS} {@code long} words for each of the {@value CardCode#CLASSIC_CARDS}
+ * top cards, whose bit of a {@linkplain CardCode#index(short) card index} is set if the card matches the top
+ * card by colour or by value, and a row of the cards of each declared colour. So the playable cards of a hand
+ * are a single AND of the bit set of the hand with the OR of the two rows and the Wild cards, without any
+ * branch or virtual call per card.</p>
+ *
+ * <p>A Wild Draw 4 card can be put down on any card; whether it is a legal play is up to the player
+ * (see {@link #playableRow(short, Color, boolean, long[])}). It never matches the top card by value, since even on
+ * another Wild Draw 4 card it is legal only if the player has no card of the current colour.</p>
+ */
+public final class CardCompatibility {
+    /**
+     * The number of {@code long} words of a row is {@value}.
+     */
+    public static final int WORDS = (CardCode.CLASSIC_CARDS + Long.SIZE - 1) / Long.SIZE;
+
+    // The cards that match each top card by colour or value, by the index of the top card
+    private static final long[] MATCHES = new long[CardCode.CLASSIC_CARDS * WORDS];
+
+    // The cards of each colour ordinal (the row of NO_COLOR is empty, since a Wild card matches no colour)
+    private static final long[] COLORS = new long[(CardCode.NO_COLOR + 1) * WORDS];
+
+    // The Wild cards, and the Wild Draw 4 cards
+    private static final long[] WILDS = new long[WORDS];
+    private static final long[] WILD_DRAW_FOURS = new long[WORDS];
+
+    static {
+        for (int card = 0; card < CardCode.CLASSIC_CARDS; card++) {
+            short code = CardCode.fromIndex(card);
+            int colorOrdinal = CardCode.colorOrdinal(code);
+            int valueOrdinal = CardCode.valueOrdinal(code);
+
+            if (colorOrdinal != CardCode.NO_COLOR) set(COLORS, colorOrdinal, card);
+            if (valueOrdinal == Value.WILD.ordinal()) set(WILDS, 0, card);
+            if (valueOrdinal == Value.WILD_DRAW_FOUR.ordinal()) set(WILD_DRAW_FOURS, 0, card);
+
+            for (int top = 0; top < CardCode.CLASSIC_CARDS; top++) {
+                short topCode = CardCode.fromIndex(top);
+                boolean sameColor = colorOrdinal != CardCode.NO_COLOR && colorOrdinal == CardCode.colorOrdinal(topCode);
+                boolean sameValue = valueOrdinal == CardCode.valueOrdinal(topCode)
+                                        && valueOrdinal != Value.WILD_DRAW_FOUR.ordinal();
+                if (sameColor || sameValue) set(MATCHES, top, card);
+            }
+        }
+    }
+
+    private CardCompatibility() { }
+
+    /**
+     * Stores the cards that can be played on the specified top card and colour in the row.
+     *
+     * @param topCode      the card code on the top of the Discard pile
+     * @param color        the current colour (the declared colour for Wild cards), or {@code null} for none
+     * @param wildDrawFour {@code true} to include the Wild Draw 4 cards,
+     *                     e.g. only if the player has no card of the current colour
+     * @param row          the row of {@link #WORDS} words to store the cards in
+     */
+    public static void playableRow(short topCode, Color color, boolean wildDrawFour, long[] row) {
+        int matchRow = CardCode.index(topCode) * WORDS;
+        int colorRow = (color != null ? color.ordinal() : CardCode.NO_COLOR) * WORDS;
+        long wildDrawFourMask = wildDrawFour ? -1L : 0L;
+
+        for (int word = 0; word < WORDS; word++) {
+            row[word] = MATCHES[matchRow + word] | COLORS[colorRow + word] | WILDS[word]
+                            | (WILD_DRAW_FOURS[word] & wildDrawFourMask);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the card can be put down on the specified top card and colour,
+     * either by colour, number, or symbol, or as a Wild card.
+     *
+     * @param topCode      the card code on the top of the Discard pile
+     * @param colorOrdinal the ordinal of the current colour (the declared colour for Wild cards),
+     *                     or {@link CardCode#NO_COLOR} for none
+     * @param code         the card code in the classic Uno deck
+     * @return {@code true} if the card can be put down, otherwise {@code false}
+     */
+    public static boolean isPlayable(short topCode, int colorOrdinal, short code) {
+        int card = CardCode.index(code);
+        int word = card / Long.SIZE;
+        long bits = MATCHES[CardCode.index(topCode) * WORDS + word] | COLORS[colorOrdinal * WORDS + word]
+                        | WILDS[word] | WILD_DRAW_FOURS[word];
+
+        return (bits & (1L << card)) != 0;
+    }
+
+    /**
+     * Returns {@code true} if the card can be put down on the specified top card and colour,
+     * either by colour, number, or symbol, or as a Wild card.
+     *
+     * @param topCode the card code on the top of the Discard pile
+     * @param color   the current colour (the declared colour for Wild cards), or {@code null} for none
+     * @param code    the card code in the classic Uno deck
+     * @return {@code true} if the card can be put down, otherwise {@code false}
+     */
+    public static boolean isPlayable(short topCode, Color color, short code) {
+        return isPlayable(topCode, color != null ? color.ordinal() : CardCode.NO_COLOR, code);
+    }
+
+    /**
+     * Returns {@code true} if the card of the specified card code is in the row.
+     *
+     * @param row  the row of {@link #WORDS} words
+     * @param code the card code in the classic Uno deck
+     * @return {@code true} if the card is in the row, otherwise {@code false}
+     */
+    public static boolean contains(long[] row, short code) {
+        int card = CardCode.index(code);
+        return (row[card / Long.SIZE] & (1L << card)) != 0;
+    }
+
+    private static void set(long[] table, int row, int card) {
+        table[row * WORDS + card / Long.SIZE] |= 1L << card;
+    }
+}
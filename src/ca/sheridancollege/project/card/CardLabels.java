@@ -0,0 +1,86 @@
+package ca.sheridancollege.project.card;
+
+import ca.sheridancollege.project.card.Card.Color;
+import ca.sheridancollege.project.card.Card.Value;
+import ca.sheridancollege.project.util.Message;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code CardLabels} class is an immutable table of the display strings of the cards in a locale.
+ *
+ * <p>The strings of every pair of {@linkplain Color colour} and {@linkplain Value value} are formatted once,
+ * including the Wild cards with a declared colour (the Wild cards without colour are shown by their value only),
+ * so rendering a card is a single array lookup.</p>
+ */
+public final class CardLabels {
+    //  {Card value} of {Card colour}
+    private static final String PATTERN_KEY = "card.value.of.color";
+
+    private static final Color[] COLORS = Color.values();
+    private static final Value[] VALUES = Value.values();
+
+    private static final ConcurrentHashMap<Locale, CardLabels> cache = new ConcurrentHashMap<>();
+
+    // The labels in the locale of the message bundle of this program
+    private static final CardLabels defaultLabels = new CardLabels(Message.getMessage(PATTERN_KEY));
+
+    // The labels by (colour ordinal * the number of values + value ordinal)
+    private final String[] labels;
+
+    private CardLabels(String pattern) {
+        labels = new String[(CardCode.NO_COLOR + 1) * VALUES.length];
+
+        for (Value value : VALUES) {
+            for (Color color : COLORS) {
+                labels[color.ordinal() * VALUES.length + value.ordinal()] = String.format(pattern, value, color);
+            }
+
+            labels[CardCode.NO_COLOR * VALUES.length + value.ordinal()] = value.toString();
+        }
+    }
+
+    /**
+     * Returns the labels in the locale of the message bundle of this program.
+     *
+     * @return the default labels
+     */
+    public static CardLabels getDefault() {
+        return defaultLabels;
+    }
+
+    /**
+     * Returns the labels in the specified locale.
+     *
+     * @param locale the locale of the labels
+     * @return the labels in the locale
+     */
+    public static CardLabels forLocale(Locale locale) {
+        return cache.computeIfAbsent(locale,
+            l -> new CardLabels(ResourceBundle.getBundle("Message", l).getString(PATTERN_KEY)));
+    }
+
+    /**
+     * Returns the display string of the card of the specified colour and value.
+     *
+     * @param color the colour of the card (the declared colour for Wild cards), or {@code null} for no colour
+     * @param value the value of the card
+     * @return the display string of the card
+     */
+    public String getLabel(Color color, Value value) {
+        int colorOrdinal = color != null ? color.ordinal() : CardCode.NO_COLOR;
+        return labels[colorOrdinal * VALUES.length + value.ordinal()];
+    }
+
+    /**
+     * Returns the display string of the card of the specified {@linkplain CardCode card code}.
+     *
+     * @param code the card code
+     * @return the display string of the card
+     */
+    public String getLabel(short code) {
+        return labels[CardCode.colorOrdinal(code) * VALUES.length + CardCode.valueOrdinal(code)];
+    }
+}
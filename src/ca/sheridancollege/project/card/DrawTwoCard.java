@@ -21,7 +21,17 @@ public class DrawTwoCard extends Card implements DrawCard {
      * @param color The colour of this card.
      */
     public DrawTwoCard(Color color) {
-        super(color, Value.DRAW_TWO);
+        this(color, 0);
+    }
+
+    /**
+     * Constructs a new {@code DrawTwoCard} object by the specified {@linkplain Color color} and copy index in the deck.
+     *
+     * @param color The colour of this card.
+     * @param copy  The copy index of this card in the deck.
+     */
+    public DrawTwoCard(Color color, int copy) {
+        super(color, Value.DRAW_TWO, copy);
     }
 
     @Override
@@ -30,10 +40,10 @@ public class DrawTwoCard extends Card implements DrawCard {
     }
 
     /**
-     * Shows the message about Draw Two.
+     * Returns the message about Draw Two.
      */
     @Override
-    public void showMessage() {
-        Message.stdPrintf("draw.card.the.next.player.must.draw.cards.and.lose.their.turn", DRAW_TWO);
+    public String getActionMessage() {
+        return Message.format("draw.card.the.next.player.must.draw.cards.and.lose.their.turn", DRAW_TWO);
     }
 }
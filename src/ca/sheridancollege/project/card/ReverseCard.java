@@ -24,14 +24,24 @@ public class ReverseCard extends Card {
      * @param color The colour of this card.
      */
     public ReverseCard(Color color) {
-        super(color, Value.REVERSE);
+        this(color, 0);
     }
 
     /**
-     * Shows the message about Reverse.
+     * Constructs a new {@code ReverseCard} object by the specified {@linkplain Color color} and copy index in the deck.
+     *
+     * @param color The colour of this card.
+     * @param copy  The copy index of this card in the deck.
+     */
+    public ReverseCard(Color color, int copy) {
+        super(color, Value.REVERSE, copy);
+    }
+
+    /**
+     * Returns the message about Reverse.
      */
     @Override
-    public void showMessage() {
-        Message.stdPrintln("reverse.card.reverse.the.direction");
+    public String getActionMessage() {
+        return Message.getMessage("reverse.card.reverse.the.direction");
     }
 }
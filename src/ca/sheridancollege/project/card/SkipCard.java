@@ -21,15 +21,25 @@ public class SkipCard extends Card {
      * @param color The colour of this card.
      */
     public SkipCard(Color color) {
-        super(color, Value.SKIP);
+        this(color, 0);
     }
 
     /**
-     * Shows the message about Skip.
+     * Constructs a new {@code SkipCard} object by the specified {@linkplain Color color} and copy index in the deck.
+     *
+     * @param color The colour of this card.
+     * @param copy  The copy index of this card in the deck.
+     */
+    public SkipCard(Color color, int copy) {
+        super(color, Value.SKIP, copy);
+    }
+
+    /**
+     * Returns the message about Skip.
      */
     @Override
-    public void showMessage() {
-        Message
-            .stdPrintln("skip.card.the.next.player.or.the.first.player.at.the.beginning.of.play.is.skipped.their.turn");
+    public String getActionMessage() {
+        return Message
+            .getMessage("skip.card.the.next.player.or.the.first.player.at.the.beginning.of.play.is.skipped.their.turn");
     }
 }
@@ -6,6 +6,7 @@ package ca.sheridancollege.project.card;
  * <p>This card can be placed on any card. The player has to choose the next colour
  * (maybe played any turn even if another playable card is available).</p>
  * <p>At the beginning of the play, the first player chooses the first color and plays a card in it.</p>
+ * <p>The colour chosen by the player is held by the game, not by this card.</p>
  *
  * <p>Date: February 22, 2021
  *
@@ -16,32 +17,25 @@ public class WildCard extends Card {
      * Constructs a new {@code WildCard} object.
      */
     public WildCard() {
-        super(null, Value.WILD);
+        this(0);
     }
 
     /**
-     * Constructs a new {@code WildCard} object by the specified {@linkplain Value value}.
+     * Constructs a new {@code WildCard} object by the specified copy index in the deck.
      *
-     * @param value The {@linkplain Value value} of this card.
+     * @param copy The copy index of this card in the deck.
      */
-    protected WildCard(Value value) {
-        super(null, value);
+    public WildCard(int copy) {
+        this(Value.WILD, copy);
     }
 
     /**
-     * Sets the colour of the card declared by the player.
+     * Constructs a new {@code WildCard} object by the specified {@linkplain Value value} and copy index in the deck.
      *
-     * @param color the colour of the card declared by the player
-     */
-    @Override
-    public void setColor(Color color) {
-        super.setColor(color);
-    }
-
-    /**
-     * Unsets the colour of this card.
+     * @param value The {@linkplain Value value} of this card.
+     * @param copy  The copy index of this card in the deck.
      */
-    public void clearColor() {
-        super.setColor(null);
+    protected WildCard(Value value, int copy) {
+        super(null, value, copy);
     }
 }
@@ -24,7 +24,16 @@ public class WildDrawFourCard extends WildCard implements DrawCard {
      * Constructs a new {@code WildDrawFourCard} object.
      */
     public WildDrawFourCard() {
-        super(Value.WILD_DRAW_FOUR);
+        this(0);
+    }
+
+    /**
+     * Constructs a new {@code WildDrawFourCard} object by the specified copy index in the deck.
+     *
+     * @param copy The copy index of this card in the deck.
+     */
+    public WildDrawFourCard(int copy) {
+        super(Value.WILD_DRAW_FOUR, copy);
     }
 
     @Override
@@ -33,10 +42,10 @@ public class WildDrawFourCard extends WildCard implements DrawCard {
     }
 
     /**
-     * Shows the message about Wild Draw 4.
+     * Returns the message about Wild Draw 4.
      */
     @Override
-    public void showMessage() {
-        Message.stdPrintf("draw.card.the.next.player.must.draw.cards.and.lose.their.turn", DRAW_FOUR);
+    public String getActionMessage() {
+        return Message.format("draw.card.the.next.player.must.draw.cards.and.lose.their.turn", DRAW_FOUR);
     }
 }
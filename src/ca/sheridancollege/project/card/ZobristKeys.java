@@ -0,0 +1,133 @@
+package ca.sheridancollege.project.card;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class consists only of static methods that return the random keys of the Zobrist hashes of the game states.
+ *
+ * <p>The hash of a state is the XOR of the keys of its parts, so a change of a part updates the hash by XOR-ing out
+ * the old key and XOR-ing in the new one. The cards in a hand are keyed by their {@linkplain CardCode#face(short)
+ * face} and the number of the identical cards up to them, so the hands of the same faces have the same hash
+ * whichever copies they hold.</p>
+ *
+ * <p>The keys are generated from a fixed seed, so the hashes are the same in every run (e.g. to find the same
+ * states in the simulations).</p>
+ */
+public final class ZobristKeys {
+    /**
+     * The maximum number of seats that have keys is {@value}.
+     */
+    public static final int SEATS = 10;
+
+    // The seed of the keys
+    private static final long SEED = 0x5EED_F00D_C0DE_CAFEL;
+
+    // The faces of the cards, and the number of the identical cards of a face
+    private static final int FACES = 1 << Byte.SIZE;
+    private static final int COPIES = 4;
+
+    // The keys of the cards in a hand by (face * COPIES + the number of the identical cards before)
+    private static final long[] HAND_CARDS;
+
+    // The keys of the card on the top of the Discard pile by face, and of the declared colours by ordinal
+    private static final long[] DISCARDS;
+    private static final long[] COLORS;
+
+    // The keys of the current seat, and of the numbers of cards in the hand of each seat by
+    // (seat * (CLASSIC_CARDS + 1) + size)
+    private static final long[] CURRENT_SEATS;
+    private static final long[] HAND_SIZES;
+
+    // The key of play to the right
+    private static final long RIGHT;
+
+    // The bits by which the hash of a hand is rotated per seat (the rotations of the seats differ mod 64)
+    private static final int SEAT_ROTATION = 13;
+
+    static {
+        SplittableRandom rng = new SplittableRandom(SEED);
+        HAND_CARDS = rng.longs(FACES * COPIES).toArray();
+        DISCARDS = rng.longs(FACES).toArray();
+        COLORS = rng.longs(CardCode.NO_COLOR).toArray();
+        CURRENT_SEATS = rng.longs(SEATS).toArray();
+        HAND_SIZES = rng.longs(SEATS * (CardCode.CLASSIC_CARDS + 1)).toArray();
+        RIGHT = rng.nextLong();
+    }
+
+    private ZobristKeys() { }
+
+    /**
+     * Returns the key of a card in a hand.
+     *
+     * @param face       the face of the card
+     * @param occurrence the number of the identical cards in the hand before the card, from {@code 0}
+     * @return the key of the card
+     */
+    public static long handCard(int face, int occurrence) {
+        return HAND_CARDS[face * COPIES + occurrence];
+    }
+
+    /**
+     * Returns the key of the card on the top of the Discard pile.
+     *
+     * @param code the card code
+     * @return the key of the card
+     */
+    public static long discard(short code) {
+        return DISCARDS[CardCode.face(code)];
+    }
+
+    /**
+     * Returns the key of the colour declared for a Wild card.
+     *
+     * @param color the declared colour, or {@code null} for none
+     * @return the key of the colour, or {@code 0} for none
+     */
+    public static long color(Card.Color color) {
+        return color != null ? COLORS[color.ordinal()] : 0;
+    }
+
+    /**
+     * Returns the key of the seat whose turn it is.
+     *
+     * @param seat the current seat number
+     * @return the key of the seat
+     */
+    public static long currentSeat(int seat) {
+        return CURRENT_SEATS[seat];
+    }
+
+    /**
+     * Returns the key of the number of cards in the hand of a seat.
+     *
+     * @param seat the seat number
+     * @param size the number of cards in the hand
+     * @return the key of the hand size
+     */
+    public static long handSize(int seat, int size) {
+        return HAND_SIZES[seat * (CardCode.CLASSIC_CARDS + 1) + size];
+    }
+
+    /**
+     * Returns the key of the direction of play.
+     *
+     * @param left {@code true} if play is to the left
+     * @return the key of the direction, which is {@code 0} to the left
+     */
+    public static long direction(boolean left) {
+        return left ? 0 : RIGHT;
+    }
+
+    /**
+     * Returns the hash of the hand in a seat, from the hash of its cards.
+     * The hands of the different seats are told apart by rotating the hash, so the hash of a state is the XOR of
+     * the hashes of the hands in their seats.
+     *
+     * @param handHash the XOR of the keys of the cards in the hand
+     * @param seat     the seat number
+     * @return the hash of the hand in the seat
+     */
+    public static long seatedHand(long handHash, int seat) {
+        return Long.rotateLeft(handHash, seat * SEAT_ROTATION);
+    }
+}
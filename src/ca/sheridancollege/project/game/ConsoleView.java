@@ -0,0 +1,116 @@
+package ca.sheridancollege.project.game;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardLabels;
+import ca.sheridancollege.project.player.Player;
+import ca.sheridancollege.project.util.ConsoleFrame;
+import ca.sheridancollege.project.util.Message;
+import ca.sheridancollege.project.util.MessageTemplate;
+import ca.sheridancollege.project.util.MessageTemplates;
+
+/**
+ * The {@code ConsoleView} class renders the events of a {@link Game} to the console.
+ *
+ * <p>Each turn is built into a {@link ConsoleFrame} and displayed when the turn ends
+ * or a human player is prompted, instead of clearing and writing the whole screen.</p>
+ */
+public class ConsoleView implements GameView {
+    // The compiled messages of the game
+    private static final MessageTemplates messages = MessageTemplates.forBundle("message.UnoGame");
+    private static final MessageTemplate PLAYER_TURN = messages.get("game.player.turn");
+    private static final MessageTemplate DISCARD = messages.get("game.current.card.on.the.discard.pile");
+    private static final MessageTemplate DRAW = messages.get("game.draws.a.card");
+    private static final MessageTemplate PENALTY = messages.get("game.penalty");
+    private static final MessageTemplate WINNER = messages.get("game.result.winner");
+    private static final MessageTemplate QUIT = messages.get("game.result.quit");
+    private static final MessageTemplate ROUND_SCORE = messages.get("game.result.round.score");
+    private static final MessageTemplate MATCH_WINNER = messages.get("game.result.match.winner");
+    private static final MessageTemplate HAND = Message.getTemplate("player.player.hand");
+
+    private final ConsoleFrame frame = new ConsoleFrame();
+
+    @Override
+    public void showTurn(Card discard, Card.Color color, Player player) {
+        frame.clear();
+
+        showDiscard(discard, color);
+        frame.printf(PLAYER_TURN, player.getPlayerId());
+    }
+
+    @Override
+    public void showDiscard(Card card, Card.Color color) {
+        String label = CardLabels.getDefault().getLabel(color, card.getValue());
+        frame.printf(DISCARD, label);
+    }
+
+    @Override
+    public void showCardAction(Card card) {
+        String message = card.getActionMessage();
+        if (message != null) frame.println(message);
+    }
+
+    @Override
+    public void showDraw(String playerId) {
+        frame.printf(DRAW, playerId);
+    }
+
+    @Override
+    public void showHand(Player player) {
+        frame.printf(HAND, player.getPlayerId());
+        int size = player.handSize();
+        for (int i = 0; i < size; i++) {
+            frame.println(i + ": " + player.getHandCard(i));
+        }
+        frame.println("");
+    }
+
+    @Override
+    public void showUno(Player player) {
+        frame.println("\033[0;1mUNO!\033[0;0m");
+    }
+
+    @Override
+    public void showPenalty(String playerId, int cards, String reasonKey) {
+        frame.printf(PENALTY, playerId, cards, messages.getString(reasonKey));
+    }
+
+    @Override
+    public void showWinner(Player winner) {
+        frame.clear();
+        frame.printf(WINNER, winner.getPlayerId());
+        frame.flush();
+    }
+
+    @Override
+    public void showQuit(Player player) {
+        frame.printf(QUIT, player.getPlayerId());
+        frame.flush();
+    }
+
+    @Override
+    public void showRoundScore(Player winner, int points, int score) {
+        frame.printf(ROUND_SCORE, winner.getPlayerId(), points, score);
+        frame.flush();
+    }
+
+    @Override
+    public void showMatchWinner(Player winner, int score) {
+        frame.printf(MATCH_WINNER, winner.getPlayerId(), score);
+        frame.flush();
+    }
+
+    @Override
+    public void showMessage(Player viewer, String line) {
+        frame.writeBelow(line + System.lineSeparator());
+    }
+
+    @Override
+    public void showPrompt(Player viewer, String text) {
+        frame.writeBelow(text);
+    }
+
+    @Override
+    public void flush() {
+        frame.flush();
+    }
+}
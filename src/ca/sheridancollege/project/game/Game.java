@@ -1,20 +1,37 @@
 package ca.sheridancollege.project.game;
 
 import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardCode;
+import ca.sheridancollege.project.card.CardCompatibility;
 import ca.sheridancollege.project.card.DrawCard;
 import ca.sheridancollege.project.card.WildCard;
 import ca.sheridancollege.project.card.WildDrawFourCard;
+import ca.sheridancollege.project.card.ZobristKeys;
+import ca.sheridancollege.project.jfr.GameEvents;
+import ca.sheridancollege.project.journal.GameJournal;
+import ca.sheridancollege.project.journal.JournalRecord;
+import ca.sheridancollege.project.metrics.GameMetrics;
+import ca.sheridancollege.project.player.ComputerPlayer;
 import ca.sheridancollege.project.player.HumanPlayer;
 import ca.sheridancollege.project.player.Player;
-import ca.sheridancollege.project.util.Command;
+import jdk.jfr.Event;
 
-import java.util.ArrayDeque;
-import java.util.Collections;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.ListIterator;
-import java.util.ResourceBundle;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The {@code Game} class performs the Uno game as a dealer.<br>
@@ -28,21 +45,108 @@ import java.util.stream.Collectors;
  * @see <a href="https://service.mattel.com/us/productDetail.aspx?prodno=GDJ85&siteid=27">UNO&#174; Instruction Sheets</a>
  */
 public class Game extends GameRoom {
-    private static final ResourceBundle messageBundle = ResourceBundle.getBundle("message.UnoGame");
+    /**
+     * The time for the player to challenge a Wild Draw 4 card played on them is {@value} milliseconds.
+     */
+    public static final long CHALLENGE_WINDOW_MILLIS = 15_000;
+
+    /**
+     * The magic number of a {@linkplain #writeSnapshot(ByteBuffer) snapshot} is {@value} ("UNOS").
+     */
+    public static final int SNAPSHOT_MAGIC = 0x554E_4F53;
+
+    /**
+     * The version of the format of a snapshot is {@value}.
+     */
+    public static final short SNAPSHOT_VERSION = 1;
 
     // Minimum number of players in UNO
     private static final int MINIMUM_PLAYERS = 2;
 
-    // Maximum number of players in UNO
-    private static final int MAXIMUM_PLAYERS = 10;
-
     // Every player starts with seven cards
     private static final int INITIAL_HAND_CARDS = 7;
 
-    // The Uno card deck used in the game.
+    /**
+     * The default metrics interval is {@value} turns, at which the games played at full speed (e.g. in a simulation)
+     * spend little time on the metrics.
+     *
+     * @see #setMetricsInterval(int)
+     */
+    public static final int DEFAULT_METRICS_INTERVAL = 64;
+
+    private static final PenaltyTypes[] PENALTY_TYPES = PenaltyTypes.values();
+
+    // The Uno card deck used in the game, which is also the circular buffer of the Draw and Discard piles:
+    // the Draw pile from its top card, then the Discard pile from its bottom card, and the cards in the hands
     private final UnoDeck deck;
-    private final ArrayDeque<Card> discardPile;
-    private ListIterator<Card> drawPile;
+
+    // The position of the top card of the Draw pile in the deck, and the number of cards in it
+    private int drawIndex;
+    private int drawSize;
+
+    // The position of the bottom card of the Discard pile in the deck, and the number of cards in it
+    private int discardIndex;
+    private int discardSize;
+
+    // The colour declared for the Wild card on the top of the Discard pile
+    private Card.Color declaredColor;
+
+    // The decision on the last Wild Draw 4 card, and the colour that it was played on
+    private CompletableFuture<Boolean> challenge;
+    private Card.Color challengeColor;
+
+    // The input events of the players, and the tasks to run between the steps (e.g. taking a snapshot),
+    // consumed by the thread that plays this game
+    private final Queue<InputEvent> events = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger signals = new AtomicInteger();
+    private volatile Thread drainThread;
+    private volatile Executor executor;
+    private volatile CompletableFuture<Player> result;
+
+    // The player of the current turn (null between the turns), and whether the turn waits for their input
+    private Player turnPlayer;
+    private boolean awaitingInput;
+
+    // Renders the events of this game
+    private final GameView view;
+
+    // Records the events of this game
+    private GameJournal journal = GameJournal.NONE;
+
+    // The metrics that this game records into, and the number of the turns between the records (a power of two)
+    private GameMetrics metrics = GameMetrics.getDefault();
+    private int metricsInterval = DEFAULT_METRICS_INTERVAL;
+
+    // The counts of this game so far
+    private int draws;
+    private int cardsPlayed;
+    private int regenerations;
+
+    // The counts of this game that are already recorded in the metrics
+    private int recordedTurns;
+    private int recordedDraws;
+    private int recordedCardsPlayed;
+    private int recordedRegenerations;
+    private final int[] recordedPenalties;
+
+    // The start time of this game, and of the current turn if its latency is sampled (otherwise 0)
+    private long gameStartNanos;
+    private long turnStartNanos;
+
+    // The flight recorder event of the current turn, or null if the event is not enabled
+    private Event turnEvent;
+
+    // Creates the computer players that fill the empty seats
+    private ComputerPlayer.Factory computerFactory = ComputerPlayer::new;
+
+    // The seed of the source of randomness, from which the deck and computer players are shuffled and split
+    private final long seed;
+    private final SplittableRandom rng;
+
+    // The statistics of the current game
+    private int turns;
+    private final int[] penalties;
 
     /**
      * Constructs a new {@code GameRoom} object by the specified game name
@@ -61,9 +165,41 @@ public class Game extends GameRoom {
      * @param deck     The Uno deck used in this game
      */
     public Game(String gameName, UnoDeck deck) {
+        this(gameName, deck, new ConsoleView());
+    }
+
+    /**
+     * Constructs a new {@code GameRoom} object by the specified game name, Uno deck, and view.
+     * The {@link GameView#HEADLESS headless} view runs this game without any console output.
+     *
+     * @param gameName The name of this game
+     * @param deck     The Uno deck used in this game
+     * @param view     The view that renders the events of this game
+     */
+    public Game(String gameName, UnoDeck deck, GameView view) {
+        this(gameName, deck, view, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a new {@code GameRoom} object by the specified game name, Uno deck, view, and seed.
+     *
+     * <p>All the randomness in this game (the number of players, the shuffles of the deck,
+     * and the decisions of the computer players) is derived from the seed,
+     * so the games with the same seed and the same decisions of the human players are the same.</p>
+     *
+     * @param gameName The name of this game
+     * @param deck     The Uno deck used in this game
+     * @param view     The view that renders the events of this game
+     * @param seed     The initial seed of the source of randomness in this game
+     */
+    public Game(String gameName, UnoDeck deck, GameView view, long seed) {
         super(gameName);
+        this.seed = seed;
+        rng = new SplittableRandom(seed);
         this.deck = deck != null ? deck : new UnoDeck();
-        discardPile = new ArrayDeque<>();
+        this.view = view != null ? view : GameView.HEADLESS;
+        penalties = new int[PENALTY_TYPES.length];
+        recordedPenalties = new int[PENALTY_TYPES.length];
     }
 
     /**
@@ -76,23 +212,233 @@ public class Game extends GameRoom {
         return card instanceof WildDrawFourCard || card.getValue() == Card.Value.WILD_DRAW_FOUR;
     }
 
-    private static void resetWildCard(Card card) {
-        if (card instanceof WildCard) ((WildCard) card).clearColor();
+    /**
+     * Returns the card on the top of the Discard pile.
+     *
+     * @return the card on the top of the Discard pile
+     */
+    public Card getTopDiscardCard() {
+        return CardCode.toCard(getTopDiscardCode());
+    }
+
+    /**
+     * Returns the card code on the top of the Discard pile.
+     *
+     * @return the card code on the top of the Discard pile
+     */
+    public short getTopDiscardCode() {
+        return deck.getCode((discardIndex + discardSize - 1) % deck.deckSize());
     }
 
-    private static void showPenaltyMessage(String playerName, PenaltyTypes penalty) {
-        String baseMessage = messageBundle.getString("game.penalty");
+    /**
+     * Returns the colour that the next card must match:
+     * the colour declared by the player if the top of the Discard pile is a Wild card, otherwise its colour.
+     *
+     * @return the colour of the card on the top of the Discard pile
+     */
+    public Card.Color getCurrentColor() {
+        return declaredColor != null ? declaredColor : getTopDiscardCard().getColor();
+    }
 
-        System.out.printf(baseMessage, playerName, penalty.number, messageBundle.getString(penalty.reason));
+    /**
+     * Returns the view that renders the events of this game.
+     *
+     * @return the view of this game
+     */
+    public GameView getView() {
+        return view;
     }
 
     /**
-     * Returns the card on the top of the Discard pile.
+     * Returns the journal that records the events of this game.
      *
-     * @return the card on the top of the Discard pile
+     * @return the journal of this game
      */
-    public Card getTopDiscardCard() {
-        return discardPile.getFirst();
+    public GameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Sets the journal that records the events of this game.
+     *
+     * @param journal the journal of this game, or {@code null} to record nothing
+     */
+    public void setJournal(GameJournal journal) {
+        this.journal = journal != null ? journal : GameJournal.NONE;
+    }
+
+    /**
+     * Returns the metrics that this game records into.
+     *
+     * @return the metrics of this game
+     */
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics that this game records into.
+     *
+     * @param metrics the metrics of this game, or {@code null} for the {@linkplain GameMetrics#getDefault() default}
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics != null ? metrics : GameMetrics.getDefault();
+    }
+
+    /**
+     * Returns the number of the turns between the records of this game in the metrics.
+     *
+     * @return the metrics interval of this game
+     * @see #setMetricsInterval(int)
+     */
+    public int getMetricsInterval() {
+        return metricsInterval;
+    }
+
+    /**
+     * Sets the number of the turns between the records of this game in the metrics. The latency of the first turn
+     * in each interval is recorded, and the counts of this game so far (e.g. the draws) are added to the metrics
+     * at the end of the turn. The counts are also added when the game ends, normally or by an exception.
+     *
+     * <p>Reading the clock costs as much as a computer turn, so the games played at full speed should keep the
+     * {@linkplain #DEFAULT_METRICS_INTERVAL default interval}. The games played by people should record every turn
+     * with the interval {@code 1}.</p>
+     *
+     * @param metricsInterval the number of the turns, which is a power of two
+     * @throws IllegalArgumentException if the interval is not a power of two
+     */
+    public void setMetricsInterval(int metricsInterval) {
+        if (Integer.bitCount(metricsInterval) != 1) {
+            throw new IllegalArgumentException("The metrics interval must be a power of two: " + metricsInterval);
+        }
+
+        this.metricsInterval = metricsInterval;
+    }
+
+    /**
+     * Returns the initial seed of the source of randomness in this game.
+     *
+     * @return the seed of this game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the seats of the players and whose turn it is in this game.
+     *
+     * @return the turn order of this game
+     */
+    public TurnOrder getTurnOrder() {
+        return turnOrder;
+    }
+
+    /**
+     * Returns the number of cards in the Discard pile.
+     *
+     * @return the number of cards in the Discard pile
+     */
+    public int getDiscardPileSize() {
+        return discardSize;
+    }
+
+    /**
+     * Returns the card code in the Discard pile at the specified position from the bottom.
+     *
+     * @param index the position from the bottom of the Discard pile
+     * @return the card code
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public short getDiscardCode(int index) {
+        return deck.getCode((discardIndex + Objects.checkIndex(index, discardSize)) % deck.deckSize());
+    }
+
+    /**
+     * Returns the number of cards left in the Draw pile.
+     *
+     * @return the number of cards in the Draw pile
+     */
+    public int getDrawPileSize() {
+        return drawSize;
+    }
+
+    /**
+     * Returns the factory of the computer players that fill the empty seats.
+     *
+     * @return the factory of the computer players
+     */
+    public ComputerPlayer.Factory getComputerFactory() {
+        return computerFactory;
+    }
+
+    /**
+     * Sets the factory of the computer players that fill the empty seats of the next games.
+     *
+     * @param computerFactory the factory of the computer players
+     */
+    public void setComputerFactory(ComputerPlayer.Factory computerFactory) {
+        this.computerFactory = computerFactory != null ? computerFactory : ComputerPlayer::new;
+    }
+
+    /**
+     * Returns the number of turns played in the current (or last) game.
+     *
+     * @return the number of turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns the number of the specified penalties in the current (or last) game.
+     *
+     * @param penaltyType the type of the penalty
+     * @return the number of the penalties
+     */
+    public int getPenalties(PenaltyTypes penaltyType) {
+        return penalties[penaltyType.ordinal()];
+    }
+
+    /**
+     * Returns the Zobrist hash of the full state of the current game: the card on the top of the Discard pile
+     * with its declared colour, the cards in the hand of each seat, the current seat, and the direction of play.
+     *
+     * <p>The hashes of the hands are kept up to date by the hands as the cards are played and drawn, and the other
+     * parts are looked up, so the hash takes a single XOR per seat. The same states have the same hash, in any
+     * game and any run, so the hash can key a transposition table or find the repeated states.</p>
+     *
+     * @return the hash of the state of this game
+     * @see ZobristKeys
+     */
+    public long getStateHash() {
+        long hash = tableHash();
+        for (int seat = 0; seat < turnOrder.size(); seat++) {
+            hash ^= ZobristKeys.seatedHand(turnOrder.getPlayer(seat).handHash(), seat);
+        }
+
+        return hash;
+    }
+
+    /**
+     * Returns the Zobrist hash of the state of the current game visible to the player in the specified seat:
+     * the card on the top of the Discard pile with its declared colour, the cards in the hand of the player,
+     * the number of cards in the hand of each seat, the current seat, and the direction of play.
+     *
+     * @param seat the seat number of the player
+     * @return the hash of the state visible to the player
+     * @see #getStateHash()
+     */
+    public long getVisibleHash(int seat) {
+        long hash = tableHash() ^ ZobristKeys.seatedHand(turnOrder.getPlayer(seat).handHash(), seat);
+        for (int i = 0; i < turnOrder.size(); i++) hash ^= ZobristKeys.handSize(i, turnOrder.getPlayer(i).handSize());
+
+        return hash;
+    }
+
+    /* Returns the hash of the Discard pile and the turn order. */
+    private long tableHash() {
+        return ZobristKeys.discard(getTopDiscardCode()) ^ ZobristKeys.color(declaredColor)
+                   ^ ZobristKeys.currentSeat(turnOrder.getCurrentSeat()) ^ ZobristKeys.direction(turnOrder.isLeft());
     }
 
     /**
@@ -104,43 +450,553 @@ public class Game extends GameRoom {
      * @return {@code true} if the card is playable, otherwise {@code false}.
      */
     public boolean isPlayableCard(Card card) {
-        return card != null && (card.matchCard(discardPile.peekFirst()) || card instanceof WildCard);
+        return card != null && CardCompatibility.isPlayable(getTopDiscardCode(), getCurrentColor(), card.getCode());
+    }
+
+    /**
+     * Writes the state of the current game to the buffer as a snapshot, from which the game can be
+     * {@linkplain #restoreSnapshot(ByteBuffer) restored} (e.g. to recover a room, or to fork the game).
+     *
+     * <p>The snapshot is taken between the turns, or while the current player waits for a command; the turn of the
+     * current player begins again when the game is resumed. It cannot be taken while a player holds a card outside
+     * the hand, i.e. while choosing the colour of a Wild card or confirming to play the drawn card, nor while a
+     * Wild Draw 4 card waits for a challenge. It is a versioned binary record in the byte order of the buffer:</p>
+     * <ol>
+     *  <li>the magic number {@value #SNAPSHOT_MAGIC} ({@code int}) and the {@value #SNAPSHOT_VERSION} version
+     *  ({@code short}),</li>
+     *  <li>the number of cards in the deck ({@code short}) and the card codes in the order of the deck,</li>
+     *  <li>the position and the size of the Draw pile and of the Discard pile ({@code short} each),</li>
+     *  <li>the ordinal of the declared colour, or {@code -1} for none ({@code byte}),</li>
+     *  <li>the numbers of the turns, draws, played cards, and regenerations of the Draw pile ({@code int} each),
+     *  and the number of the penalty types ({@code byte}) and of the penalties of each type ({@code int}),</li>
+     *  <li>the number of players, the current seat, and {@code 1} if play is to the left ({@code byte} each),</li>
+     *  <li>for each seat, the length of the player ID ({@code short}), the player ID in UTF-8,
+     *  and the {@linkplain Player#writeState(ByteBuffer) state of the player}.</li>
+     * </ol>
+     *
+     * <p>The source of randomness of the game is not a part of the snapshot.</p>
+     *
+     * <p>While the game is running, the snapshot must be taken on the thread that plays the game, e.g. by
+     * {@link #writeSnapshotAsync(ByteBuffer)}, so that no turn changes the state in the meantime.</p>
+     *
+     * @param buffer the buffer to write the snapshot to
+     * @throws IllegalStateException   if a Wild Draw 4 card waits for the decision on a challenge,
+     *                                 a player {@linkplain Player#holdsPendingCard() holds a card},
+     *                                 or the game is running on another thread
+     * @throws BufferOverflowException if the buffer does not have enough space
+     */
+    public void writeSnapshot(ByteBuffer buffer) {
+        CompletableFuture<Player> current = result;
+        if (current != null && !current.isDone() && Thread.currentThread() != drainThread) {
+            throw new IllegalStateException("The game is running on another thread.");
+        }
+        if (challenge != null) throw new IllegalStateException("A Wild Draw 4 card is waiting for a challenge.");
+        int players = turnOrder.size();
+        for (int seat = 0; seat < players; seat++) {
+            if (turnOrder.getPlayer(seat).holdsPendingCard()) {
+                throw new IllegalStateException("A player is choosing how to play a card.");
+            }
+        }
+
+        buffer.putInt(SNAPSHOT_MAGIC).putShort(SNAPSHOT_VERSION);
+
+        int deckSize = deck.deckSize();
+        buffer.putShort((short) deckSize);
+        for (int i = 0; i < deckSize; i++) buffer.putShort(deck.getCode(i));
+        buffer.putShort((short) drawIndex).putShort((short) drawSize)
+              .putShort((short) discardIndex).putShort((short) discardSize);
+        buffer.put((byte) (declaredColor != null ? declaredColor.ordinal() : -1));
+
+        buffer.putInt(turns).putInt(draws).putInt(cardsPlayed).putInt(regenerations);
+        buffer.put((byte) penalties.length);
+        for (int penalty : penalties) buffer.putInt(penalty);
+
+        buffer.put((byte) players).put((byte) turnOrder.getCurrentSeat()).put((byte) (turnOrder.isLeft() ? 1 : 0));
+        for (int seat = 0; seat < players; seat++) {
+            Player player = turnOrder.getPlayer(seat);
+            byte[] playerId = player.getPlayerId().getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) playerId.length).put(playerId);
+            player.writeState(buffer);
+        }
+    }
+
+    /**
+     * Writes the {@linkplain #writeSnapshot(ByteBuffer) snapshot} of this game to the buffer on the thread that
+     * plays the game, when the game waits for input or after it ends. If no game is running, the snapshot is
+     * written on the calling thread.
+     *
+     * @param buffer the buffer to write the snapshot to, which must not be used until the future completes
+     * @return the future that completes when the snapshot is written, or completes exceptionally with the
+     *     exception of {@link #writeSnapshot(ByteBuffer)}
+     */
+    public CompletableFuture<Void> writeSnapshotAsync(ByteBuffer buffer) {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        tasks.add(() -> {
+            try {
+                writeSnapshot(buffer);
+                written.complete(null);
+            } catch (RuntimeException e) {
+                written.completeExceptionally(e);
+            }
+        });
+
+        CompletableFuture<Player> current = result;
+        if (current != null && !current.isDone()) {
+            signal();
+        } else {
+            runTasks();
+        }
+
+        return written;
+    }
+
+    /**
+     * Restores the state of a game from the {@linkplain #writeSnapshot(ByteBuffer) snapshot} in the buffer.
+     * The game must not be running; it is {@linkplain #resumeGameAsync(Executor) resumed} later.
+     *
+     * <p>The players are seated by their player IDs. The seats of the players who are not in this room are
+     * taken by new computer players with the same IDs.</p>
+     *
+     * <p>The whole snapshot is read and checked before the state of this game is changed, so this game is left as
+     * it was if the snapshot is invalid. Besides the range of each field, the Discard pile must have a card and
+     * follow the Draw pile in the deck, and every card of the deck must be in exactly one of the piles and
+     * the hands.</p>
+     *
+     * @param buffer the buffer to read the snapshot from
+     * @throws IllegalArgumentException if the buffer does not hold a snapshot of this version and deck, a field
+     *                                  of the snapshot is out of range (e.g. a card code or the current seat),
+     *                                  or the piles and the hands do not hold the cards of the deck
+     * @throws IllegalStateException    if this game is running
+     * @throws BufferUnderflowException if the snapshot ends early
+     */
+    public void restoreSnapshot(ByteBuffer buffer) {
+        CompletableFuture<Player> current = result;
+        if (current != null && !current.isDone()) throw new IllegalStateException("The game is running.");
+
+        if (buffer.getInt() != SNAPSHOT_MAGIC) throw new IllegalArgumentException("Not a game snapshot.");
+
+        short version = buffer.getShort();
+        if (version != SNAPSHOT_VERSION) throw new IllegalArgumentException("Unknown snapshot version: " + version);
+
+        int deckSize = buffer.getShort();
+        if (deckSize != deck.deckSize()) {
+            throw new IllegalArgumentException("The snapshot is of a deck of " + deckSize + " cards.");
+        }
+        short[] codes = new short[deckSize];
+        for (int i = 0; i < deckSize; i++) {
+            codes[i] = buffer.getShort();
+            if (!CardCode.isClassic(codes[i])) {
+                throw new IllegalArgumentException("Invalid card code in the deck of the snapshot: " + codes[i]);
+            }
+        }
+        int newDrawIndex = snapshotField("Draw pile position", buffer.getShort(), 0, deckSize - 1);
+        int newDrawSize = snapshotField("Draw pile size", buffer.getShort(), 0, deckSize);
+        int newDiscardIndex = snapshotField("Discard pile position", buffer.getShort(), 0, deckSize - 1);
+        int newDiscardSize = snapshotField("Discard pile size", buffer.getShort(), 1, deckSize - newDrawSize);
+        if ((newDrawIndex + newDrawSize) % deckSize != newDiscardIndex) {
+            throw new IllegalArgumentException("The Discard pile does not follow the Draw pile in the snapshot.");
+        }
+        Card.Color[] colors = Card.Color.values();
+        int color = snapshotField("declared colour", buffer.get(), -1, colors.length - 1);
+
+        int newTurns = snapshotField("number of turns", buffer.getInt(), 0, Integer.MAX_VALUE);
+        int newDraws = snapshotField("number of draws", buffer.getInt(), 0, Integer.MAX_VALUE);
+        int newCardsPlayed = snapshotField("number of played cards", buffer.getInt(), 0, Integer.MAX_VALUE);
+        int newRegenerations = snapshotField("number of regenerations", buffer.getInt(), 0, Integer.MAX_VALUE);
+        int penaltyTypes = snapshotField("number of penalty types", buffer.get(), 0, penalties.length);
+        int[] newPenalties = new int[penalties.length];
+        for (int i = 0; i < penaltyTypes; i++) {
+            newPenalties[i] = snapshotField("number of penalties", buffer.getInt(), 0, Integer.MAX_VALUE);
+        }
+
+        int players = snapshotField("number of players", buffer.get(), MINIMUM_PLAYERS, MAXIMUM_PLAYERS);
+        int currentSeat = snapshotField("current seat", buffer.get(), 0, players - 1);
+        boolean left = buffer.get() != 0;
+        String[] playerIds = new String[players];
+        int[] statePositions = new int[players];
+        boolean[] dealt = new boolean[CardCode.CLASSIC_CARDS];
+        int cards = 0;
+        for (int seat = 0; seat < players; seat++) {
+            byte[] playerId = new byte[snapshotField("length of a player ID", buffer.getShort(), 0, Short.MAX_VALUE)];
+            buffer.get(playerId);
+            playerIds[seat] = new String(playerId, StandardCharsets.UTF_8);
+            for (int i = 0; i < seat; i++) {
+                if (playerIds[i].equals(playerIds[seat])) {
+                    throw new IllegalArgumentException("Duplicate player ID in the snapshot: " + playerIds[seat]);
+                }
+            }
+
+            statePositions[seat] = buffer.position();
+            for (short code : Player.checkState(buffer)) cards += countCard(dealt, code);
+        }
+
+        // Every card is in one of the piles or the hands
+        for (int i = 0; i < newDrawSize; i++) cards += countCard(dealt, codes[(newDrawIndex + i) % deckSize]);
+        for (int i = 0; i < newDiscardSize; i++) cards += countCard(dealt, codes[(newDiscardIndex + i) % deckSize]);
+        if (cards != deckSize) {
+            throw new IllegalArgumentException("The snapshot has " + cards + " of the " + deckSize + " cards.");
+        }
+
+        // The snapshot is valid; restore the state
+        for (int i = 0; i < deckSize; i++) deck.setCode(i, codes[i]);
+        drawIndex = newDrawIndex;
+        drawSize = newDrawSize;
+        discardIndex = newDiscardIndex;
+        discardSize = newDiscardSize;
+        declaredColor = color >= 0 ? colors[color] : null;
+
+        turns = newTurns;
+        draws = newDraws;
+        cardsPlayed = newCardsPlayed;
+        regenerations = newRegenerations;
+        System.arraycopy(newPenalties, 0, penalties, 0, penalties.length);
+        markCountsRecorded();
+
+        // The states of the players are read again from their positions in the snapshot
+        ByteBuffer states = buffer.duplicate().order(buffer.order());
+        List<Player> seats = new ArrayList<>(players);
+        for (int seat = 0; seat < players; seat++) {
+            Player player = seatedPlayer(playerIds[seat], seat);
+            states.position(statePositions[seat]);
+            player.restoreState(states);
+            seats.add(player);
+        }
+
+        // The computer players of the last game who are not seated leave
+        synchronized (this) {
+            turnOrder.seat(seats);
+            playerList.values().removeIf(player -> player instanceof ComputerPlayer && turnOrder.seatOf(player) < 0);
+        }
+        turnOrder.setCurrentSeat(currentSeat);
+        if (!left) turnOrder.reverse();
+
+        turnPlayer = null;
+        awaitingInput = false;
+        challenge = null;
+    }
+
+    /* Returns the value of the field of a snapshot, or throws IllegalArgumentException if it is out of the range. */
+    private static int snapshotField(String field, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException("The " + field + " in the snapshot is out of range: " + value);
+        }
+
+        return value;
+    }
+
+    /* Marks the card of a snapshot as found and returns 1, or throws IllegalArgumentException if it is found twice. */
+    private static int countCard(boolean[] found, short code) {
+        int index = CardCode.index(code);
+        if (found[index]) throw new IllegalArgumentException("The card " + code + " is twice in the snapshot.");
+
+        found[index] = true;
+        return 1;
+    }
+
+    /* Returns the player of the ID in this room, or a new computer player with the ID in the seat. */
+    private synchronized Player seatedPlayer(String playerId, int seat) {
+        Player player = playerList.get(playerId);
+        if (player == null) {
+            player = computerFactory.create(seat + 1, this, rng.split());
+            player.setPlayerId(playerId);
+            playerList.put(playerId, player);
+        }
+
+        return player;
     }
 
     /**
      * Starts this game.
      */
     public void playGame() {
-        // Number of players in this game session
-        int players = ThreadLocalRandom.current().nextInt(MINIMUM_PLAYERS, MAXIMUM_PLAYERS + 1);
-        generateComputers(players, this);
+        playGame(randomPlayers());
+    }
 
-        setup();
+    /* Returns a random number of players for a game session. */
+    int randomPlayers() {
+        return rng.nextInt(MINIMUM_PLAYERS, MAXIMUM_PLAYERS + 1);
+    }
+
+    /**
+     * Starts this game with a random number of players on the executor, and returns the future winner.
+     *
+     * @param executor the executor that plays the turns of this game
+     * @return the future that completes with the winner of this game, or {@code null} if a player quits it
+     * @see #playGameAsync(int, Executor)
+     */
+    public CompletableFuture<Player> playGameAsync(Executor executor) {
+        return playGameAsync(randomPlayers(), executor);
+    }
 
-        Player curPlayer;
-        do {
-            Command.clearScreen();
+    /**
+     * Starts this game with the specified number of players, and waits for the winner.
+     * The seats that are not taken by the joined players are filled with computer players.
+     *
+     * <p>The turns are played on the calling thread. If a human player is waiting for input,
+     * the rest of the game is played on the thread that {@linkplain #post(InputEvent) posts} the input.</p>
+     *
+     * @param players the number of players in this game
+     * @return the winner of this game, or {@code null} if a player quits it
+     */
+    public Player playGame(int players) {
+        return playGameAsync(players, Runnable::run).join();
+    }
+
+    /**
+     * Starts this game with the specified number of players on the executor, and returns the future winner.
+     * The seats that are not taken by the joined players are filled with computer players.
+     *
+     * <p>The turns are played on the executor until a player waits for input or for the decision on a Wild
+     * Draw 4 card challenge. No thread waits in the meantime; the game is resumed on the executor when an
+     * {@linkplain #post(InputEvent) input event} is posted or the challenge window is over.</p>
+     *
+     * @param players  the number of players in this game
+     * @param executor the executor that plays the turns of this game
+     * @return the future that completes with the winner of this game, or {@code null} if a player quits it
+     */
+    public CompletableFuture<Player> playGameAsync(int players, Executor executor) {
+        return startAsync(() -> deal(players), executor);
+    }
+
+    /**
+     * Resumes the game {@linkplain #restoreSnapshot(ByteBuffer) restored} from a snapshot on the executor,
+     * and returns the future winner. The turn of the current player begins again.
+     *
+     * @param executor the executor that plays the turns of this game
+     * @return the future that completes with the winner of this game, or {@code null} if a player quits it
+     * @see #playGameAsync(int, Executor)
+     */
+    public CompletableFuture<Player> resumeGameAsync(Executor executor) {
+        return startAsync(() -> GameEvents.gameStart(this), executor);
+    }
+
+    /* Prepares the game and plays the turns on the executor. */
+    private CompletableFuture<Player> startAsync(Runnable preparation, Executor executor) {
+        CompletableFuture<Player> result = new CompletableFuture<>();
+        events.clear();
+        this.executor = executor;
+        this.result = result;
+
+        // The preparation holds the drain until it is done, so the events posted in the meantime wait for it
+        signals.set(1);
+        executor.execute(() -> {
+            try {
+                turnPlayer = null;
+                awaitingInput = false;
+                challenge = null;
+                gameStartNanos = System.nanoTime();
+                metrics.recordGameStarted();
+                preparation.run();
+            } catch (RuntimeException | Error e) {
+                recordCounts();
+                result.completeExceptionally(e);
+            }
+            drain();
+        });
+
+        return result;
+    }
+
+    /**
+     * Posts the line of input from the specified player to this game.
+     *
+     * @param player the player who entered the line
+     * @param line   the line of input
+     * @see InputEvent#parse(Player, String)
+     */
+    public void post(Player player, String line) {
+        post(InputEvent.parse(player, line));
+    }
+
+    /**
+     * Posts the input event to this game. It may be called by any thread.
+     * The event is ignored if no game is in progress.
+     *
+     * @param event the input event of a player in this game
+     */
+    public void post(InputEvent event) {
+        CompletableFuture<Player> current = result;
+        if (current == null || current.isDone()) return;
 
-            showCurrentDiscard();
+        events.add(event);
+        signal();
+    }
 
-            curPlayer = playerList.getFirst();
-            System.out.printf(messageBundle.getString("game.player.turn"), curPlayer.getPlayerId());
-            curPlayer.play();
+    /**
+     * Ends the current game without a winner, because the specified player quit it.
+     * The future of this game completes with {@code null}, and the rest of the posted input is ignored.
+     * It is called on the thread that plays this game, while the player handles an input event.
+     *
+     * @param player the player who quit this game
+     * @throws IllegalStateException if it is called on another thread while this game is running
+     */
+    public void quit(Player player) {
+        CompletableFuture<Player> current = result;
+        if (current == null || current.isDone()) return;
+        if (Thread.currentThread() != drainThread) {
+            throw new IllegalStateException("The game is running on another thread.");
+        }
 
-            nextPlayer();
+        recordCounts();
+        view.showQuit(player);
+        removeComputers();
+        current.complete(null);
+    }
+
+    /* Runs the drain on the executor unless it is running. */
+    private void signal() {
+        if (signals.getAndIncrement() == 0) executor.execute(this::drain);
+    }
+
+    /* Steps this game until no signal is left. Only one thread runs it at a time. */
+    private void drain() {
+        drainThread = Thread.currentThread();
+        try {
+            int missed = 1;
+            do {
+                step();
+                runTasks();
+                missed = signals.addAndGet(-missed);
+            } while (missed != 0);
+        } finally {
+            drainThread = null;
+        }
+    }
+
+    /* Runs the tasks posted to this game, while the game waits or after it ends. */
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) task.run();
+    }
+
+    /* Plays the turns and consumes the input events one by one, until the game ends or waits. */
+    private void step() {
+        CompletableFuture<Player> current = result;
+        if (current.isDone()) {
+            events.clear();
+            return;
+        }
+
+        try {
+            Player winner = playTurns();
+
+            InputEvent event;
+            while (winner == null && (event = events.poll()) != null) {
+                dispatch(event);
+
+                // The player may have quit the game
+                if (current.isDone()) return;
+                winner = playTurns();
+            }
+
+            if (winner != null) current.complete(finish(winner));
+        } catch (RuntimeException | Error e) {
+            recordCounts();
+            current.completeExceptionally(e);
+        }
+    }
+
+    /* Passes the input event to the player, and ends the waiting turn if the player finished it. */
+    private void dispatch(InputEvent event) {
+        Player player = event.getPlayer();
+        if (turnOrder.seatOf(player) < 0) return;
+
+        if (player.handle(event) && player == turnPlayer) awaitingInput = false;
+    }
+
+    /* Plays the turns and returns the winner, or returns null while waiting for input or a challenge. */
+    private Player playTurns() {
+        while (true) {
+            // The card played on the turn may have moved the turn order (e.g. a Skip card)
+            Player curPlayer = turnPlayer;
+
+            if (curPlayer == null) {
+                curPlayer = turnPlayer = turnOrder.current();
+                journal.append(JournalRecord.Type.TURN, turnOrder.getCurrentSeat(), (short) 0, turns);
+                view.showTurn(getTopDiscardCard(), getCurrentColor(), curPlayer);
+                turnEvent = GameEvents.beginTurn(this);
+
+                // Reading the clock costs as much as a computer turn, so only some turns are timed
+                turnStartNanos = (turns & (metricsInterval - 1)) == 0 ? System.nanoTime() : 0;
+                awaitingInput = !curPlayer.play();
+                if (turnStartNanos != 0) metrics.recordPlay(System.nanoTime() - turnStartNanos);
+            }
+
+            // The turn ends after the challenge of the Wild Draw 4 card that the current player played
+            if (awaitingInput || challenge != null && !challenge.isDone()) {
+                view.flush();
+                return null;
+            }
+            if (challenge != null) resolveChallenge();
+
+            turnPlayer = null;
+            turns++;
+            if (turnStartNanos != 0) {
+                metrics.recordTurn(System.nanoTime() - turnStartNanos);
+                recordCounts();
+            }
+            GameEvents.endTurn(turnEvent);
+            turnEvent = null;
+
+            turnOrder.advance();
 
             // Automatically caught if forgetting to yell "UNO."
             catchNonUnoCall(curPlayer);
-        } while (curPlayer.handSize() < 1);
 
+            // Display the whole turn at once
+            view.flush();
+
+            if (curPlayer.handSize() == 0) return curPlayer;
+        }
+    }
+
+    /* Shows the result and removes the computer players. */
+    private Player finish(Player winner) {
         // Result
-        Command.clearScreen();
-        System.out.printf(messageBundle.getString("game.result.winner"), curPlayer.getPlayerId());
+        journal.append(JournalRecord.Type.WIN, turnOrder.seatOf(winner), (short) 0, turns);
+        recordCounts();
+        metrics.recordGameFinished(System.nanoTime() - gameStartNanos);
+        view.showWinner(winner);
 
         // Remove computer players
         removeComputers();
 
-        // TODO: Send a score report to each player (client).
+        return winner;
+    }
+
+    /* Adds the counts of this game since the last record to the metrics. */
+    private void recordCounts() {
+        metrics.recordCounts(turns - recordedTurns, draws - recordedDraws, cardsPlayed - recordedCardsPlayed,
+                             regenerations - recordedRegenerations);
+        for (int i = 0; i < penalties.length; i++) {
+            if (penalties[i] != recordedPenalties[i]) {
+                metrics.recordPenalties(PENALTY_TYPES[i], penalties[i] - recordedPenalties[i]);
+            }
+        }
+
+        markCountsRecorded();
+    }
+
+    /* Marks the counts of this game so far as recorded in the metrics. */
+    private void markCountsRecorded() {
+        recordedTurns = turns;
+        recordedDraws = draws;
+        recordedCardsPlayed = cardsPlayed;
+        recordedRegenerations = regenerations;
+        System.arraycopy(penalties, 0, recordedPenalties, 0, penalties.length);
+    }
+
+    /**
+     * Seats the players and deals the cards for a new game with the specified number of players.
+     * The seats that are not taken by the joined players are filled with computer players.
+     *
+     * @param players the number of players in this game
+     */
+    public void deal(int players) {
+        generateComputers(players, this);
+
+        setup();
+        GameEvents.gameStart(this);
     }
 
     /**
@@ -149,50 +1005,59 @@ public class Game extends GameRoom {
      * @param card the card to play
      */
     public void playCard(Card card) {
-        if (card instanceof WildCard && card.getColor() == null) {
-            ((WildCard) card).setColor(playerList.getFirst().chooseColor());
-        }
+        playCard(card, null);
+    }
 
-        discardPile.push(card);
-        showCurrentDiscard();
+    /**
+     * Performs processing after putting down a card in the Discard pile, with the colour declared in advance.
+     *
+     * @param card  the card to play
+     * @param color the colour declared for a Wild card, or {@code null} to ask the current player
+     */
+    public void playCard(Card card, Card.Color color) {
+        journal.append(JournalRecord.Type.PLAY, turnOrder.getCurrentSeat(), card.getCode(), 0);
+        cardsPlayed++;
+        GameEvents.cardPlayed(this, turnOrder.getCurrentSeat(), card.getCode());
 
-        card.showMessage();
-        // The head of the player list is the current player.
-        switch (card.getValue()) {
-            case SKIP -> nextPlayer();
-            case REVERSE -> Collections.reverse(playerList);
-            case DRAW_TWO, WILD_DRAW_FOUR -> {
-                // TODO: a Wild Draw 4 card handling
-
-                // The next player must draw n cards and lose their turn.
-                drawPenalty(((DrawCard) card).getDraw(), playerList.get(1));
-                nextPlayer();
-            }
-            default -> throw new IllegalStateException("Unexpected value: " + card.getValue());
-        }
+        discard(card, color);
     }
 
     /**
      * Displays the card on the top of the Discard pile.
      */
     public void showCurrentDiscard() {
-        System.out.printf(messageBundle.getString("game.current.card.on.the.discard.pile"), discardPile.peekFirst());
+        view.showDiscard(getTopDiscardCard(), getCurrentColor());
     }
 
     /**
      * Draws the top card of the Draw pile.
      *
-     * @param playerId the string of the player ID (name) who draws draw a card
-     * @return the top card of the Draw pile
+     * @param player the player who draws a card
+     * @return the top card of the Draw pile, or {@code null} if no cards are left to draw
      */
-    public Card draw(String playerId) {
-        System.out.printf(messageBundle.getString("game.draws.a.card"), playerId);
+    public Card draw(Player player) {
+        view.showDraw(player.getPlayerId());
 
-        if (!drawPile.hasNext()) {
+        if (drawSize == 0) {
             regenerateDrawPile();
         }
 
-        return drawPile.next();
+        // All the other cards are held in the hands of the players
+        if (drawSize == 0) return null;
+
+        short code = deck.getCode(drawIndex);
+        drawIndex = (drawIndex + 1) % deck.deckSize();
+        drawSize--;
+        journal.append(JournalRecord.Type.DRAW, turnOrder.seatOf(player), code, 0);
+        draws++;
+        GameEvents.cardDrawn(this, player, code);
+
+        return CardCode.toCard(code);
+    }
+
+    /* Splits off a new source of randomness for a computer player. */
+    SplittableRandom splitRandom() {
+        return rng.split();
     }
 
     /**
@@ -202,7 +1067,36 @@ public class Game extends GameRoom {
         if (lastPlayer.nonCalledUno()) penalty(lastPlayer, PenaltyTypes.NOT_YELL_UNO);
     }
 
-    // TODO: Multithreading is required to support WildDraw4 card rules.
+    /*
+     * Opens the challenge window of the Wild Draw 4 card that the current player played on the next player.
+     * The window is closed as no challenge when the time is over.
+     */
+    private void openChallenge(Card.Color previousColor) {
+        challengeColor = previousColor;
+        challenge = turnOrder.peekNext().challenge(turnOrder.current())
+                        .completeOnTimeout(false, CHALLENGE_WINDOW_MILLIS, TimeUnit.MILLISECONDS)
+                        .exceptionally(e -> false);
+
+        // Resume this game when the decision is made or the window is over
+        if (!challenge.isDone()) challenge.thenRun(this::signal);
+    }
+
+    /* Performs the decision on the Wild Draw 4 card, and closes the challenge window. */
+    private void resolveChallenge() {
+        boolean challenged = challenge.join();
+        challenge = null;
+
+        Player challenger = turnOrder.peekNext();
+        challenger.closeChallenge();
+        journal.append(JournalRecord.Type.CHALLENGE, turnOrder.getNextSeat(), (short) 0, challenged ? 1 : 0);
+        if (challenged) {
+            challengeIllegalPlay(challenger, turnOrder.current(), challengeColor);
+        } else {
+            // The next player must draw 4 cards and lose their turn.
+            drawPenalty(((DrawCard) getTopDiscardCard()).getDraw(), challenger);
+            turnOrder.advance();
+        }
+    }
 
     /**
      * Challenges a player suspected of illegally playing a Wild Draw 4 card (i.e. the player has a matching card).
@@ -210,26 +1104,27 @@ public class Game extends GameRoom {
      * <p>The challenged player must show the challenger their hand.
      * If guilty, the challenged player must draw the 4 cards instead.
      * Otherwise, if the player is innocent,
-     * the challenger must draw 4 cards PLUS 2 additional cards (for a total of 6 cards).</p>
+     * the challenger must draw 4 cards PLUS 2 additional cards (for a total of 6 cards) and lose their turn.</p>
      *
-     * @param challenger the player that challenged the previous player
+     * @param challenger       the player that challenged the Wild Draw 4 card
+     * @param challengedPlayer the player that played the Wild Draw 4 card
+     * @param previousColor    the colour that the Wild Draw 4 card was played on
      */
-    private void challengeIllegalPlay(Player challenger) {
-        Player challengedPlayer = playerList.getLast();
-
+    private void challengeIllegalPlay(Player challenger, Player challengedPlayer, Card.Color previousColor) {
         // Only if the challenger is NOT a computer,
         if (challenger instanceof HumanPlayer) {
             // the challenged player shows the challenger their hand.
-            challengedPlayer.showHand();
+            view.showHand(challengedPlayer, challenger);
         }
 
         // The challenged player is ...
-        if (challengedPlayer.nonMatchColor(discardPile.getFirst().getColor())) {
+        if (challengedPlayer.hasMatchingColor(previousColor)) {
             // guilty.
             penalty(challengedPlayer, PenaltyTypes.ILLEGAL_WILD_DRAW_FOUR_CARD_PLAY);
         } else {
             // innocent.
             penalty(challenger, PenaltyTypes.CHALLENGE_FAILED);
+            turnOrder.advance();
         }
     }
 
@@ -237,15 +1132,27 @@ public class Game extends GameRoom {
      * Sets up the new Uno game.
      */
     private void setup() {
+        turns = 0;
+        draws = 0;
+        cardsPlayed = 0;
+        regenerations = 0;
+        Arrays.fill(penalties, 0);
+        markCountsRecorded();
+
         randomFirstPlayer();
+        int players = turnOrder.size();
+        journal.append(JournalRecord.Type.START, players, (short) 0, turnOrder.getCurrentSeat());
 
-        deck.shuffle();
+        deck.shuffle(rng);
 
         // Deal 7 cards to each player from the deck
         int fromIndex = 0;
         int toIndex = INITIAL_HAND_CARDS;
-        for (Player pl : playerList) {
-            pl.initHand(deck.getCardsInRange(fromIndex, toIndex));
+        for (int seat = 0; seat < players; seat++) {
+            turnOrder.getPlayer(seat).initHand(deck.getCardsInRange(fromIndex, toIndex));
+            for (int i = fromIndex; i < toIndex; i++) {
+                journal.append(JournalRecord.Type.DEAL, seat, deck.getCode(i), 0);
+            }
 
             // Update the indexes of the sublist
             fromIndex = toIndex;
@@ -256,14 +1163,59 @@ public class Game extends GameRoom {
         Card card = deck.getCard(fromIndex);
         // The card is NOT a Wild Draw Four card
         while (isWildDrawFour(card)) {
-            Collections.shuffle(deck.getCardsInRange(fromIndex, deck.deckSize()));
+            deck.shuffle(fromIndex, deck.deckSize(), rng);
             card = deck.getCard(fromIndex);
         }
 
-        drawPile = deck.getCards().listIterator(fromIndex + 1);
+        drawIndex = fromIndex + 1;
+        drawSize = deck.deckSize() - drawIndex;
 
-        discardPile.clear();
-        playCard(card);
+        // The Discard pile follows the Draw pile, wrapping around to the slots of the dealt cards
+        discardIndex = 0;
+        discardSize = 0;
+        journal.append(JournalRecord.Type.FLIP, JournalRecord.NO_SEAT, card.getCode(), 0);
+        discard(card, null);
+    }
+
+    /* Puts down the card on the Discard pile and performs its action. */
+    private void discard(Card card, Card.Color color) {
+        int seat = turnOrder.getCurrentSeat();
+        Card.Color previousColor = discardSize > 0 ? getCurrentColor() : null;
+
+        // The current player declares the colour of a Wild card
+        if (card instanceof WildCard) {
+            declaredColor = color != null ? color : turnOrder.current().chooseColor();
+        } else {
+            declaredColor = null;
+        }
+        if (declaredColor != null) {
+            journal.append(JournalRecord.Type.COLOR, seat, (short) 0, declaredColor.ordinal());
+            GameEvents.wildColor(this, seat, declaredColor, color == null);
+        }
+
+        // The slot after the Discard pile is free, since the card comes from a hand
+        // The card is displayed on the next turn, as the first line of its frame
+        deck.setCode((discardIndex + discardSize++) % deck.deckSize(), card.getCode());
+
+        view.showCardAction(card);
+        switch (card.getValue()) {
+            case SKIP -> {
+                journal.append(JournalRecord.Type.SKIP, turnOrder.getNextSeat(), (short) 0, 0);
+                turnOrder.advance();
+            }
+            case REVERSE -> {
+                journal.append(JournalRecord.Type.REVERSE, seat, (short) 0, 0);
+                turnOrder.reverse();
+            }
+            case DRAW_TWO -> {
+                // The next player must draw 2 cards and lose their turn.
+                drawPenalty(((DrawCard) card).getDraw(), turnOrder.peekNext());
+                turnOrder.advance();
+            }
+            // The next player may challenge the card before drawing
+            case WILD_DRAW_FOUR -> openChallenge(previousColor);
+            default -> { }
+        }
     }
 
     /**
@@ -274,59 +1226,77 @@ public class Game extends GameRoom {
      * @param player the player adds the drawn cards to his or her hand.
      */
     private void drawPenalty(int n, Player player) {
-        String playerId = player.getPlayerId();
-        for (int i = 0; i < n; i++) player.addHand(draw(playerId));
+        for (int i = 0; i < n; i++) {
+            Card card = draw(player);
+            if (card == null) return;
+
+            player.addHand(card);
+        }
     }
 
     /**
      * Draws the specified number of cards as a <b>penalty</b>.
      */
     private void penalty(Player player, PenaltyTypes penaltyType) {
-        showPenaltyMessage(player.getPlayerId(), penaltyType);
+        penalties[penaltyType.ordinal()]++;
+        journal.append(JournalRecord.Type.PENALTY, turnOrder.seatOf(player), (short) 0, penaltyType.ordinal());
+        view.showPenalty(player.getPlayerId(), penaltyType.number, penaltyType.reason);
+        GameEvents.penalty(this, player, penaltyType);
         drawPenalty(penaltyType.number, player);
     }
 
-    /* Moves the next player. */
-    private void nextPlayer() {
-        playerList.offer(playerList.poll());
-    }
-
     /*
-     * Rotates the first player to index 0.
+     * Seats the players and moves the turn to the first player.
      *
      * The player with the highest number is considered to be the dealer, and play begins to the left of the dealer.
      * https://www.ultraboardgames.com/uno/game-rules.php
      */
     private void randomFirstPlayer() {
-        deck.shuffle();
+        synchronized (this) {
+            turnOrder.seat(playerList.values());
+        }
 
-        // Each player draws a card (then collect numbers from cards)
-        List<Integer> cards = deck.getCardsInRange(0, playerList.size())
-                                  .stream().map(c -> c.getValue().getNumber()).collect(Collectors.toList());
+        // The shuffles depend only on the seed, not on the order left by the last game
+        deck.reset();
+        deck.shuffle(rng);
 
-        // Find the index of the highest number card in the drawn card list
-        int index = cards.indexOf(Collections.max(cards));
+        // Each player draws a card, then find the index of the highest number card in the drawn cards
+        int index = 0;
+        int size = turnOrder.size();
+        for (int i = 1; i < size; i++) {
+            if (CardCode.value(deck.getCode(i)).getNumber() > CardCode.value(deck.getCode(index)).getNumber()) {
+                index = i;
+            }
+        }
 
-        // Rotate the first player to index 0; the index of the card list equals to the player index
-        Collections.rotate(playerList, playerList.size() - (index + 1));
+        // Play begins to the left of the dealer; the index of the drawn cards equals to the seat number
+        turnOrder.setCurrentSeat((index + 1) % size);
     }
 
+    /*
+     * Regenerates a new Draw pile from the Discard pile except for the top card.
+     *
+     * The empty Draw pile ends where the Discard pile begins, so the cards under the top card become
+     * the new Draw pile where they are, and are shuffled in place without copying or allocation.
+     */
     private void regenerateDrawPile() {
-        /* Regenerate a new Draw pile */
-        List<Card> cards = discardPile.stream().peek(Game::resetWildCard).collect(Collectors.toList());
-        Collections.shuffle(cards);
-        drawPile = cards.listIterator();
-
-        // Store the card on the top of the Discard pile
-        Card card = discardPile.pop();
+        int recycled = discardSize - 1;
+        journal.append(JournalRecord.Type.RECYCLE, JournalRecord.NO_SEAT, (short) 0, recycled);
+        regenerations++;
+        GameEvents.drawPileRegeneration(this, recycled);
+        deck.shuffleCircular(discardIndex, recycled, rng);
+        drawIndex = discardIndex;
+        drawSize = recycled;
 
-        discardPile.clear();
-
-        // Restore the last card
-        discardPile.push(card);
+        // The top card stays as the only card of the Discard pile
+        discardIndex = (discardIndex + recycled) % deck.deckSize();
+        discardSize = 1;
     }
 
-    private enum PenaltyTypes {
+    /**
+     * The penalties in the Uno game with the number of cards to draw.
+     */
+    public enum PenaltyTypes {
         NOT_YELL_UNO(2, "game.penalty.reason.not.yell.uno"),
         ILLEGAL_WILD_DRAW_FOUR_CARD_PLAY(4, "game.penalty.reason.illegal.wild.draw.4.card.play"),
         // The challenged player is innocent
@@ -339,5 +1309,9 @@ public class Game extends GameRoom {
             this.number = number;
             this.reason = reason;
         }
+
+        public int getNumber() {
+            return number;
+        }
     }
 }
@@ -3,13 +3,15 @@ package ca.sheridancollege.project.game;
 import ca.sheridancollege.project.player.ComputerPlayer;
 import ca.sheridancollege.project.player.Player;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.function.Predicate;
 
 /**
  * <p>The {@code GameRoom} class represents the Uno game room.</p>
+ *
+ * <p>The players are kept by their player IDs in the order they joined, up to the {@linkplain #getCapacity()
+ * capacity} of the room. All the methods that access the players are synchronized on the room,
+ * so that the rooms are locked independently of each other.</p>
  * <br>
  *
  * <ul style="list-style-type: none">
@@ -20,12 +22,55 @@ import java.util.function.Predicate;
  * @author Makoto Sakaguchi
  */
 public class GameRoom {
+    /**
+     * The maximum number of players in UNO is {@value}.
+     */
+    public static final int MAXIMUM_PLAYERS = 10;
+
+    // The initial number of seats around the table
+    private static final int INITIAL_SEATS = 4;
+
     // The title of the game
     protected final String gameName;
 
-    protected final LinkedList<Player> playerList;
+    // The players by player ID, in the order they joined (guarded by this room)
+    protected final LinkedHashMap<String, Player> playerList;
+
+    // The seats of the players in a game and whose turn it is
+    protected final TurnOrder turnOrder;
 
-    // TODO: Maximum number of players
+    // The maximum number of players in this room
+    private int capacity;
+
+    // Whether a game is in progress, or this room is closed (guarded by this room)
+    private boolean inProgress;
+    private boolean closed;
+
+    /**
+     * The results of joining a game room.
+     */
+    public enum JoinResult {
+        /**
+         * The player joined the room.
+         */
+        JOINED,
+        /**
+         * There is already a player with the same player ID in the room.
+         */
+        NAME_TAKEN,
+        /**
+         * The room reached the maximum number of players.
+         */
+        ROOM_FULL,
+        /**
+         * A game is in progress in the room.
+         */
+        IN_PROGRESS,
+        /**
+         * The room is closed because it became empty.
+         */
+        CLOSED
+    }
 
     /**
      * Constructs a new {@code GameRoom} object by the specified game (room) name.
@@ -34,7 +79,9 @@ public class GameRoom {
      */
     public GameRoom(String gameName) {
         this.gameName = gameName;
-        playerList = new LinkedList<>();
+        playerList = new LinkedHashMap<>();
+        turnOrder = new TurnOrder(INITIAL_SEATS);
+        capacity = MAXIMUM_PLAYERS;
     }
 
     /**
@@ -47,12 +94,62 @@ public class GameRoom {
     }
 
     /**
-     * Returns a synchronized (thread-safe) list that contains the player list of this game.
+     * Returns the maximum number of players in this room.
+     *
+     * @return the capacity of this room
+     */
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum number of players in this room.
+     *
+     * @param capacity the capacity of this room from {@code 1} to {@link #MAXIMUM_PLAYERS}
+     * @throws IllegalArgumentException if the capacity is out of range
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity < 1 || capacity > MAXIMUM_PLAYERS) {
+            throw new IllegalArgumentException("The capacity must be from 1 to " + MAXIMUM_PLAYERS + ".");
+        }
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the players in this room, in the order they joined.
      *
      * @return the player list of this game
      */
-    public List<Player> getPlayerList() {
-        return Collections.synchronizedList(playerList);
+    public synchronized List<Player> getPlayerList() {
+        return List.copyOf(playerList.values());
+    }
+
+    /**
+     * Returns the number of players in this room.
+     *
+     * @return the number of players
+     */
+    public synchronized int playerCount() {
+        return playerList.size();
+    }
+
+    /**
+     * Returns {@code true} if a player can join this room now.
+     *
+     * @return {@code true} if this room is open and has a free seat, otherwise {@code false}
+     */
+    public synchronized boolean hasFreeSeat() {
+        return !inProgress && !closed && playerList.size() < capacity;
+    }
+
+    /**
+     * Returns {@code true} if a game is in progress in this room.
+     *
+     * @return {@code true} if a game is in progress, otherwise {@code false}
+     */
+    public synchronized boolean isInProgress() {
+        return inProgress;
     }
 
     /**
@@ -60,40 +157,90 @@ public class GameRoom {
      *
      * @param player the player to join this game room
      * @return {@code true} if the player is successfully added to the player list in this room;
-     *     {@code false} if there is already a player with the same player ID in this room.
-     * @see LinkedList#add(Object)
+     *     {@code false} if there is already a player with the same player ID in this room,
+     *     or the player cannot join this room now (see {@link #join(Player)}).
      */
     public boolean addPlayer(Player player) {
-        // TODO: Message that reached the maximum number of players.
-        return !playerList.contains(player) && playerList.add(player);
+        return join(player) == JoinResult.JOINED;
+    }
+
+    /**
+     * Adds the player to this game room if there is a free seat and no game is in progress.
+     *
+     * @param player the player to join this game room
+     * @return the result of joining this room
+     */
+    public synchronized JoinResult join(Player player) {
+        if (closed) return JoinResult.CLOSED;
+        if (inProgress) return JoinResult.IN_PROGRESS;
+        if (playerList.containsKey(player.getPlayerId())) return JoinResult.NAME_TAKEN;
+        if (playerList.size() >= capacity) return JoinResult.ROOM_FULL;
+
+        playerList.put(player.getPlayerId(), player);
+        return JoinResult.JOINED;
     }
 
     /**
      * Removes the player from this game room.
      *
      * @param playerId the string representing the player ID to be removed from this game room.
-     * @see LinkedList#removeIf(Predicate)
+     * @return the removed player, or {@code null} if there is no player with the player ID in this room
+     */
+    public synchronized Player removePlayer(String playerId) {
+        return playerList.remove(playerId);
+    }
+
+    /**
+     * Closes this room if there are no players, so that no player can join it any more.
+     *
+     * @return {@code true} if this room is closed, otherwise {@code false}
+     */
+    public synchronized boolean closeIfEmpty() {
+        if (playerList.isEmpty() && !inProgress) closed = true;
+
+        return closed;
+    }
+
+    /**
+     * Marks that a game begins in this room, so that no player can join it until {@link #endGame()}.
+     *
+     * @return {@code true} if the game begins; {@code false} if a game is already in progress or this room is closed
+     */
+    protected synchronized boolean beginGame() {
+        if (inProgress || closed) return false;
+
+        inProgress = true;
+        return true;
+    }
+
+    /**
+     * Marks that the game in this room ends.
      */
-    public void removePlayer(String playerId) {
-        playerList.removeIf(pl -> pl.getPlayerId().equals(playerId));
+    protected synchronized void endGame() {
+        inProgress = false;
     }
 
     /**
      * Generates the number of computer players.
      *
-     * @param players the number of computer players to add in this room.
+     * @param players the number of players in this room, including the computer players to add.
      */
-    protected void generateComputers(int players, Game gameSession) {
+    protected synchronized void generateComputers(int players, Game gameSession) {
         removeComputers();
 
-        int coms = players - playerList.size();
-        for (int i = 1; i <= coms; i++) playerList.addLast(new ComputerPlayer(i, gameSession));
+        int coms = Math.min(players, MAXIMUM_PLAYERS) - playerList.size();
+        for (int id = 1; coms > 0; id++) {
+            // Skip the names taken by the joined players
+            ComputerPlayer computer =
+                gameSession.getComputerFactory().create(id, gameSession, gameSession.splitRandom());
+            if (playerList.putIfAbsent(computer.getPlayerId(), computer) == null) coms--;
+        }
     }
 
     /**
      * Removes all computer players.
      */
-    protected void removeComputers() {
-        playerList.removeIf(ComputerPlayer.class::isInstance);
+    protected synchronized void removeComputers() {
+        playerList.values().removeIf(ComputerPlayer.class::isInstance);
     }
 }
@@ -0,0 +1,134 @@
+package ca.sheridancollege.project.game;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.player.Player;
+
+/**
+ * The {@code GameView} interface renders the events of a {@link Game}.
+ *
+ * <p>Every method does nothing by default, so the {@link #HEADLESS} view runs the game without any output.</p>
+ */
+public interface GameView {
+    /**
+     * The view that renders nothing (for simulations).
+     */
+    GameView HEADLESS = new GameView() { };
+
+    /**
+     * Displays the beginning of the turn of the specified player.
+     *
+     * @param discard the card on the top of the Discard pile
+     * @param color   the colour to match (the declared colour for Wild cards)
+     * @param player  the player whose turn it is
+     */
+    default void showTurn(Card discard, Card.Color color, Player player) { }
+
+    /**
+     * Displays the card on the top of the Discard pile.
+     *
+     * @param card  the card on the top of the Discard pile
+     * @param color the colour to match (the declared colour for Wild cards)
+     */
+    default void showDiscard(Card card, Card.Color color) { }
+
+    /**
+     * Displays the message about the action of the played card.
+     *
+     * @param card the played card
+     */
+    default void showCardAction(Card card) { }
+
+    /**
+     * Displays that the specified player draws a card.
+     *
+     * @param playerId the player ID (name) who draws a card
+     */
+    default void showDraw(String playerId) { }
+
+    /**
+     * Displays the hand of the specified player.
+     *
+     * @param player the player whose hand is displayed
+     */
+    default void showHand(Player player) { }
+
+    /**
+     * Displays the hand of the specified player to the viewer only (e.g. to the challenger of a Wild Draw 4 card).
+     * By default, it is the same as {@link #showHand(Player)}.
+     *
+     * @param player the player whose hand is displayed
+     * @param viewer the player to whom the hand is displayed
+     */
+    default void showHand(Player player, Player viewer) {
+        showHand(player);
+    }
+
+    /**
+     * Displays that the specified player yells "UNO".
+     *
+     * @param player the player who yells "UNO"
+     */
+    default void showUno(Player player) { }
+
+    /**
+     * Displays the penalty of the specified player.
+     *
+     * @param playerId  the player ID (name) who must draw the cards
+     * @param cards     the number of cards to draw
+     * @param reasonKey the key for the reason message string
+     */
+    default void showPenalty(String playerId, int cards, String reasonKey) { }
+
+    /**
+     * Displays the winner of the game.
+     *
+     * @param winner the player who played all the cards in their hand
+     */
+    default void showWinner(Player winner) { }
+
+    /**
+     * Displays that the specified player quit the game, which ends without a winner.
+     *
+     * @param player the player who quit the game
+     */
+    default void showQuit(Player player) { }
+
+    /**
+     * Displays the points that the winner of a round scored in a {@link Match}.
+     *
+     * @param winner the winner of the round
+     * @param points the points left in the hands of the other players
+     * @param score  the score of the winner in the match
+     */
+    default void showRoundScore(Player winner, int points, int score) { }
+
+    /**
+     * Displays the winner of a {@link Match}.
+     *
+     * @param winner the player who reached the target score
+     * @param score  the score of the winner
+     */
+    default void showMatchWinner(Player winner, int score) { }
+
+    /**
+     * Displays the line to the specified player only, below everything rendered so far.
+     *
+     * @param viewer the player to whom the line is displayed
+     * @param line   the line to display
+     */
+    default void showMessage(Player viewer, String line) { }
+
+    /**
+     * Displays the prompt to the specified player only, below everything rendered so far.
+     * The input of the player is expected on the same line.
+     *
+     * @param viewer the player to whom the prompt is displayed
+     * @param text   the prompt to display
+     */
+    default void showPrompt(Player viewer, String text) { }
+
+    /**
+     * Displays everything rendered so far. It is called at the end of each turn.
+     */
+    default void flush() { }
+}
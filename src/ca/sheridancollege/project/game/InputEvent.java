@@ -0,0 +1,132 @@
+package ca.sheridancollege.project.game;
+
+import ca.sheridancollege.project.player.Player;
+import ca.sheridancollege.project.util.Command;
+
+import java.util.regex.Pattern;
+
+/**
+ * <p>The {@code InputEvent} class represents a line of input from a player, parsed into a command event.</p>
+ *
+ * <p>The raw input of the console or a socket is {@linkplain #parse(Player, String) parsed} on the thread that
+ * reads it, and {@linkplain Game#post(InputEvent) posted} to the queue of the game. The game consumes the events
+ * one by one on the thread that plays it, and the player interprets each event by the prompt it waits for.</p>
+ */
+public final class InputEvent {
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d{1,9}");
+    private static final Pattern YES_PATTERN = Pattern.compile("y(es)?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NO_PATTERN = Pattern.compile("no?", Pattern.CASE_INSENSITIVE);
+
+    private final Player player;
+    private final Kind kind;
+    private final int number;
+    private final Command.Game command;
+
+    private InputEvent(Player player, Kind kind, int number, Command.Game command) {
+        this.player = player;
+        this.kind = kind;
+        this.number = number;
+        this.command = command;
+    }
+
+    /**
+     * Parses the specified line of input from the player.
+     *
+     * @param player the player who entered the line
+     * @param line   the line of input
+     * @return the event of the line
+     */
+    public static InputEvent parse(Player player, String line) {
+        String text = line.strip();
+
+        if (text.isEmpty()) return new InputEvent(player, Kind.EMPTY, 0, Command.Game.None);
+        if (NUMBER_PATTERN.matcher(text).matches()) {
+            return new InputEvent(player, Kind.NUMBER, Integer.parseInt(text), Command.Game.None);
+        }
+        if (YES_PATTERN.matcher(text).matches()) return new InputEvent(player, Kind.YES, 0, Command.Game.None);
+        if (NO_PATTERN.matcher(text).matches()) return new InputEvent(player, Kind.NO, 0, Command.Game.None);
+
+        Command.Game command = text.length() == 1 ? Command.Game.valueOf(text.charAt(0)) : Command.Game.None;
+        return new InputEvent(player, command != Command.Game.None ? Kind.COMMAND : Kind.UNKNOWN, 0, command);
+    }
+
+    /**
+     * Returns the event that the specified player is disconnected.
+     *
+     * @param player the disconnected player
+     * @return the event of the disconnection
+     */
+    public static InputEvent disconnected(Player player) {
+        return new InputEvent(player, Kind.DISCONNECTED, 0, Command.Game.None);
+    }
+
+    /**
+     * Returns the player who entered the input.
+     *
+     * @return the player of this event
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the kind of the input.
+     *
+     * @return the kind of this event
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the number entered, if the kind is {@link Kind#NUMBER}.
+     *
+     * @return the number of this event, or {@code 0}
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the game command entered, if the kind is {@link Kind#COMMAND}.
+     *
+     * @return the game command of this event, or {@link Command.Game#None}
+     */
+    public Command.Game getCommand() {
+        return command;
+    }
+
+    /**
+     * The kinds of the input.
+     */
+    public enum Kind {
+        /**
+         * A card number or a colour number.
+         */
+        NUMBER,
+        /**
+         * A {@linkplain Command.Game game command}.
+         */
+        COMMAND,
+        /**
+         * "Y" or "Yes" (ignoring case).
+         */
+        YES,
+        /**
+         * "N" or "No" (ignoring case).
+         */
+        NO,
+        /**
+         * An empty line.
+         */
+        EMPTY,
+        /**
+         * Any other input.
+         */
+        UNKNOWN,
+        /**
+         * The player is disconnected (not a line of input).
+         */
+        DISCONNECTED
+    }
+}
@@ -0,0 +1,131 @@
+package ca.sheridancollege.project.game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The {@code Leaderboard} class aggregates the results of the {@linkplain Match matches} by player ID.</p>
+ *
+ * <p>The matches in many rooms record their rounds at the same time, so each standing is a set of
+ * {@link LongAdder} counters in a concurrent hash map: a record never takes a lock, and the counters of a busy
+ * player do not contend on a single value. The {@linkplain #top(int) rankings} are a snapshot of the sums.</p>
+ */
+public class Leaderboard {
+    private static final Comparator<Standing> RANKING =
+        Comparator.comparingLong(Standing::getMatchWins)
+                  .thenComparingLong(Standing::getPoints)
+                  .reversed()
+                  .thenComparing(Standing::getPlayerId);
+
+    // The standings by player ID
+    private final ConcurrentHashMap<String, Standing> standings = new ConcurrentHashMap<>();
+
+    /**
+     * Records the points that the winner of a round scored.
+     *
+     * @param playerId the ID of the winner of the round
+     * @param points   the points scored in the round
+     */
+    public void recordRound(String playerId, int points) {
+        Standing standing = standing(playerId);
+        standing.roundWins.increment();
+        standing.points.add(points);
+    }
+
+    /**
+     * Records the end of a match.
+     *
+     * @param winnerId  the ID of the winner of the match
+     * @param playerIds the IDs of all the players in the match
+     */
+    public void recordMatch(String winnerId, Collection<String> playerIds) {
+        for (String playerId : playerIds) standing(playerId).matches.increment();
+        standing(winnerId).matchWins.increment();
+    }
+
+    /**
+     * Returns the standing of the specified player.
+     *
+     * @param playerId the ID of the player
+     * @return the standing of the player, or {@code null} if the player has not played a match
+     */
+    public Standing getStanding(String playerId) {
+        return standings.get(playerId);
+    }
+
+    /**
+     * Returns the specified number of the top standings, by the match wins and then by the points.
+     *
+     * @param limit the maximum number of the standings
+     * @return the top standings in order
+     */
+    public List<Standing> top(int limit) {
+        List<Standing> list = new ArrayList<>(standings.values());
+        list.sort(RANKING);
+
+        return list.size() > limit ? new ArrayList<>(list.subList(0, limit)) : list;
+    }
+
+    private Standing standing(String playerId) {
+        return standings.computeIfAbsent(playerId, Standing::new);
+    }
+
+    /**
+     * The aggregates of the matches of a player.
+     */
+    public static final class Standing {
+        private final String playerId;
+        private final LongAdder matches = new LongAdder();
+        private final LongAdder matchWins = new LongAdder();
+        private final LongAdder roundWins = new LongAdder();
+        private final LongAdder points = new LongAdder();
+
+        private Standing(String playerId) {
+            this.playerId = playerId;
+        }
+
+        public String getPlayerId() {
+            return playerId;
+        }
+
+        /**
+         * Returns the number of the matches that the player played.
+         *
+         * @return the number of the matches
+         */
+        public long getMatches() {
+            return matches.sum();
+        }
+
+        /**
+         * Returns the number of the matches that the player won.
+         *
+         * @return the number of the match wins
+         */
+        public long getMatchWins() {
+            return matchWins.sum();
+        }
+
+        /**
+         * Returns the number of the rounds that the player won.
+         *
+         * @return the number of the round wins
+         */
+        public long getRoundWins() {
+            return roundWins.sum();
+        }
+
+        /**
+         * Returns the total points that the player scored.
+         *
+         * @return the total points
+         */
+        public long getPoints() {
+            return points.sum();
+        }
+    }
+}
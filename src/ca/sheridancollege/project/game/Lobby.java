@@ -0,0 +1,187 @@
+package ca.sheridancollege.project.game;
+
+import ca.sheridancollege.project.player.Player;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <p>The {@code Lobby} class is the registry of the game rooms and the players in them.</p>
+ *
+ * <p>The rooms are kept by name and the players by player ID in concurrent hash maps, so a room or the room of
+ * a player is found in constant time from any thread. A player ID is unique in the lobby: joining reserves the ID
+ * first, then joins the room under the lock of the room only, so the joins to different rooms do not contend.
+ * A room is removed from the lobby when the last player leaves it.</p>
+ *
+ * <p>The rooms with a free seat are the candidates of {@linkplain #quickJoin(Player) matchmaking}.</p>
+ *
+ * @param <R> the type of the game rooms
+ */
+public class Lobby<R extends GameRoom> {
+    private static final String ROOM_NAME_FORMAT = "Room-%d";
+
+    private final Function<String, R> roomFactory;
+
+    // The rooms by name
+    private final ConcurrentHashMap<String, R> rooms = new ConcurrentHashMap<>();
+
+    // The rooms by player ID
+    private final ConcurrentHashMap<String, R> playerRooms = new ConcurrentHashMap<>();
+
+    // The rooms that may have a free seat
+    private final Set<R> openRooms = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong roomNumber = new AtomicLong();
+
+    /**
+     * Constructs an empty lobby with the factory of the game rooms.
+     *
+     * @param roomFactory the function that creates a new room of the specified name
+     */
+    public Lobby(Function<String, R> roomFactory) {
+        this.roomFactory = roomFactory;
+    }
+
+    /**
+     * Returns the room of the specified name.
+     *
+     * @param roomName the name of the room
+     * @return the room, or {@code null} if there is no room of the name
+     */
+    public R getRoom(String roomName) {
+        return rooms.get(roomName);
+    }
+
+    /**
+     * Returns the room that the specified player joined.
+     *
+     * @param playerId the player ID
+     * @return the room of the player, or {@code null} if the player is not in this lobby
+     */
+    public R findRoom(String playerId) {
+        return playerRooms.get(playerId);
+    }
+
+    /**
+     * Returns the number of rooms in this lobby.
+     *
+     * @return the number of rooms
+     */
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    /**
+     * Returns the number of players in this lobby.
+     *
+     * @return the number of players
+     */
+    public int playerCount() {
+        return playerRooms.size();
+    }
+
+    /**
+     * Adds the player to the room of the specified name, creating the room if it does not exist.
+     *
+     * @param roomName the name of the room
+     * @param player   the player to join the room
+     * @return the result of joining the room; {@link GameRoom.JoinResult#NAME_TAKEN} if there is already a player
+     *     with the same player ID in this lobby
+     */
+    public GameRoom.JoinResult join(String roomName, Player player) {
+        GameRoom.JoinResult result;
+        do {
+            // A closed room has been removed, so a new room is created
+            result = join(rooms.computeIfAbsent(roomName, roomFactory), player);
+        } while (result == GameRoom.JoinResult.CLOSED);
+
+        return result;
+    }
+
+    /**
+     * Adds the player to a room with a free seat, or to a new room if there is no such room.
+     *
+     * @param player the player to join a room
+     * @return the joined room, or {@code null} if there is already a player with the same player ID in this lobby
+     */
+    public R quickJoin(Player player) {
+        Iterator<R> candidates = openRooms.iterator();
+        while (candidates.hasNext()) {
+            R room = candidates.next();
+            switch (join(room, player)) {
+                case JOINED -> {
+                    return room;
+                }
+                case NAME_TAKEN -> {
+                    if (playerRooms.containsKey(player.getPlayerId())) return null;
+                }
+                default -> openRooms.remove(room);
+            }
+        }
+
+        // No room has a free seat
+        while (true) {
+            R room = rooms.computeIfAbsent(ROOM_NAME_FORMAT.formatted(roomNumber.incrementAndGet()), roomFactory);
+            switch (join(room, player)) {
+                case JOINED -> {
+                    return room;
+                }
+                case NAME_TAKEN -> {
+                    if (playerRooms.containsKey(player.getPlayerId())) return null;
+                }
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Removes the player from the room. The room is removed from this lobby if it becomes empty.
+     *
+     * @param player the player to leave the room
+     * @return {@code true} if the player left the room; {@code false} if the player is not in this lobby
+     */
+    public boolean leave(Player player) {
+        R room = playerRooms.remove(player.getPlayerId());
+        if (room == null) return false;
+
+        room.removePlayer(player.getPlayerId());
+        update(room);
+
+        return true;
+    }
+
+    /**
+     * Updates the state of the specified room in this lobby, after a game ends or the players leave the room.
+     * An empty room is removed, and a room with a free seat becomes a candidate of matchmaking.
+     *
+     * @param room the room in this lobby
+     */
+    public void update(R room) {
+        if (room.closeIfEmpty()) {
+            openRooms.remove(room);
+            rooms.remove(room.getGameName(), room);
+        } else if (room.hasFreeSeat()) {
+            openRooms.add(room);
+        } else {
+            openRooms.remove(room);
+        }
+    }
+
+    /* Reserves the player ID in this lobby and joins the room. */
+    private GameRoom.JoinResult join(R room, Player player) {
+        String playerId = player.getPlayerId();
+        if (playerRooms.putIfAbsent(playerId, room) != null) return GameRoom.JoinResult.NAME_TAKEN;
+
+        GameRoom.JoinResult result = room.join(player);
+        if (result != GameRoom.JoinResult.JOINED) {
+            playerRooms.remove(playerId, room);
+            if (result == GameRoom.JoinResult.CLOSED) rooms.remove(room.getGameName(), room);
+        }
+        update(room);
+
+        return result;
+    }
+}
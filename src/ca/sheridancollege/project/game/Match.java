@@ -0,0 +1,164 @@
+package ca.sheridancollege.project.game;
+
+import ca.sheridancollege.project.player.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>The {@code Match} class plays the rounds of a {@link Game} until a player reaches the target score.</p>
+ *
+ * <p>The winner of a round scores the {@linkplain ca.sheridancollege.project.card.Card.Value#getPoints() points}
+ * of all the cards left in the hands of the other players: the Number cards at face value, the action cards
+ * 20 points, and the Wild cards 50 points. Each player keeps the total points of their hand up to date,
+ * so scoring a round only sums one number per player. The first player to reach 500 points wins the match.</p>
+ *
+ * <p>The scores are reported to the players through the view of the game, and the results are recorded in
+ * the {@link Leaderboard}, which may be shared by the matches in many rooms.</p>
+ *
+ * @see <a href="https://www.unorules.com/">Original Uno Rules</a>
+ */
+public class Match {
+    /**
+     * The score to win a match is {@value}.
+     */
+    public static final int TARGET_SCORE = 500;
+
+    private final Game game;
+    private final int targetScore;
+    private final Leaderboard leaderboard;
+
+    // The scores by player ID, in the order the players first won a round (only updated between rounds)
+    private final Map<String, Integer> scores = new LinkedHashMap<>();
+    private int rounds;
+
+    /**
+     * Constructs a match of the game to {@value #TARGET_SCORE} points without a leaderboard.
+     *
+     * @param game the game to play the rounds of
+     */
+    public Match(Game game) {
+        this(game, TARGET_SCORE, new Leaderboard());
+    }
+
+    /**
+     * Constructs a match of the game to the specified score.
+     *
+     * @param game        the game to play the rounds of
+     * @param targetScore the score to win the match
+     * @param leaderboard the leaderboard to record the results in
+     */
+    public Match(Game game, int targetScore, Leaderboard leaderboard) {
+        this.game = game;
+        this.targetScore = targetScore;
+        this.leaderboard = leaderboard;
+    }
+
+    /**
+     * Plays this match with the specified number of players on the calling thread, and returns the winner.
+     *
+     * @param players the number of players in each round
+     * @return the winner of this match, or {@code null} if a player quits it
+     * @see Game#playGame(int)
+     */
+    public Player playMatch(int players) {
+        return playMatchAsync(players, Runnable::run).join();
+    }
+
+    /**
+     * Plays this match with a random number of players on the executor, and returns the future winner.
+     *
+     * @param executor the executor that plays the turns
+     * @return the future that completes with the winner of this match, or {@code null} if a player quits it
+     */
+    public CompletableFuture<Player> playMatchAsync(Executor executor) {
+        return playMatchAsync(game.randomPlayers(), executor);
+    }
+
+    /**
+     * Plays this match with the specified number of players on the executor, and returns the future winner.
+     * Each round is {@linkplain Game#playGameAsync(int, Executor) played} after the last one is scored.
+     *
+     * @param players  the number of players in each round
+     * @param executor the executor that plays the turns
+     * @return the future that completes with the winner of this match, or {@code null} if a player quits it
+     */
+    public CompletableFuture<Player> playMatchAsync(int players, Executor executor) {
+        scores.clear();
+        rounds = 0;
+
+        return playRounds(players, executor);
+    }
+
+    /**
+     * Returns the score of the specified player in this match.
+     *
+     * @param playerId the ID of the player
+     * @return the score of the player
+     */
+    public int getScore(String playerId) {
+        return scores.getOrDefault(playerId, 0);
+    }
+
+    /**
+     * Returns the scores of the players who have won a round, by player ID.
+     *
+     * @return the unmodifiable view of the scores
+     */
+    public Map<String, Integer> getScores() {
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * Returns the number of the rounds played.
+     *
+     * @return the number of the rounds
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getTargetScore() {
+        return targetScore;
+    }
+
+    private CompletableFuture<Player> playRounds(int players, Executor executor) {
+        return game.playGameAsync(players, executor).thenCompose(winner -> {
+            // A player quit the round
+            if (winner == null) return CompletableFuture.completedFuture(null);
+
+            if (scoreRound(winner) < targetScore) return playRounds(players, executor);
+
+            game.getView().showMatchWinner(winner, getScore(winner.getPlayerId()));
+            leaderboard.recordMatch(winner.getPlayerId(), playerIds());
+            return CompletableFuture.completedFuture(winner);
+        });
+    }
+
+    private List<String> playerIds() {
+        TurnOrder turnOrder = game.getTurnOrder();
+        List<String> playerIds = new ArrayList<>(turnOrder.size());
+        for (int seat = 0; seat < turnOrder.size(); seat++) playerIds.add(turnOrder.getPlayer(seat).getPlayerId());
+
+        return playerIds;
+    }
+
+    /* Adds the points left in the hands of the other players to the score of the winner, and returns the score. */
+    private int scoreRound(Player winner) {
+        TurnOrder turnOrder = game.getTurnOrder();
+        int points = 0;
+        for (int seat = 0; seat < turnOrder.size(); seat++) points += turnOrder.getPlayer(seat).handPoints();
+
+        rounds++;
+        int score = scores.merge(winner.getPlayerId(), points, Integer::sum);
+        leaderboard.recordRound(winner.getPlayerId(), points);
+        game.getView().showRoundScore(winner, points, score);
+
+        return score;
+    }
+}
@@ -0,0 +1,153 @@
+package ca.sheridancollege.project.game;
+
+import ca.sheridancollege.project.player.Player;
+
+import java.util.Collection;
+
+/**
+ * <p>The {@code TurnOrder} class represents the seats of the players around the table and whose turn it is.</p>
+ *
+ * <p>The players are kept in an array with the current seat and the direction of play,
+ * so that advancing (and skipping), reversing, and peeking at the next or previous player
+ * take constant time without any allocation.</p>
+ */
+public class TurnOrder {
+    // The direction of play to the left (clockwise)
+    private static final int LEFT = 1;
+
+    private Player[] seats;
+    private int size;
+
+    private int currentSeat;
+
+    // 1 to the left, -1 to the right
+    private int direction;
+
+    /**
+     * Constructs an empty turn order with the specified initial number of seats.
+     *
+     * @param capacity the initial number of seats
+     */
+    public TurnOrder(int capacity) {
+        seats = new Player[capacity];
+        direction = LEFT;
+    }
+
+    /**
+     * Returns the number of seated players.
+     *
+     * @return the number of seated players
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the player in the specified seat.
+     *
+     * @param seat the seat number from {@code 0} to {@link #size()} - 1
+     * @return the player in the seat
+     */
+    public Player getPlayer(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * Returns the seat number of the specified player.
+     *
+     * @param player the seated player
+     * @return the seat number of the player, or {@code -1} if the player is not seated
+     */
+    public int seatOf(Player player) {
+        for (int i = 0; i < size; i++) {
+            if (seats[i] == player) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the seat number of the player whose turn it is.
+     *
+     * @return the current seat number
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Returns the player whose turn it is.
+     *
+     * @return the current player
+     */
+    public Player current() {
+        return seats[currentSeat];
+    }
+
+    /**
+     * Returns the seat number of the player who plays next in the current direction.
+     *
+     * @return the next seat number
+     */
+    public int getNextSeat() {
+        return seatFrom(currentSeat, direction);
+    }
+
+    /**
+     * Returns the player who plays next in the current direction.
+     *
+     * @return the next player
+     */
+    public Player peekNext() {
+        return seats[seatFrom(currentSeat, direction)];
+    }
+
+    /**
+     * Returns the player who played previously in the current direction.
+     *
+     * @return the previous player
+     */
+    public Player peekPrevious() {
+        return seats[seatFrom(currentSeat, -direction)];
+    }
+
+    /**
+     * Returns {@code true} if play is currently to the left.
+     *
+     * @return {@code true} if play is to the left, {@code false} if play is to the right
+     */
+    public boolean isLeft() {
+        return direction == LEFT;
+    }
+
+    /* Seats the players in the iteration order of the specified collection. */
+    void seat(Collection<? extends Player> players) {
+        if (seats.length < players.size()) seats = new Player[players.size()];
+
+        size = 0;
+        for (Player player : players) seats[size++] = player;
+        for (int i = size; i < seats.length; i++) seats[i] = null;
+
+        currentSeat = 0;
+        direction = LEFT;
+    }
+
+    /* Moves the turn to the specified seat. */
+    void setCurrentSeat(int seat) {
+        currentSeat = seat;
+    }
+
+    /* Moves the turn to the next player. */
+    void advance() {
+        currentSeat = seatFrom(currentSeat, direction);
+    }
+
+    /* Reverses the direction of play. */
+    void reverse() {
+        direction = -direction;
+    }
+
+    private int seatFrom(int seat, int offset) {
+        return Math.floorMod(seat + offset, size);
+    }
+}
@@ -1,17 +1,13 @@
 package ca.sheridancollege.project.game;
 
 import ca.sheridancollege.project.card.Card;
-import ca.sheridancollege.project.card.Card.Color;
-import ca.sheridancollege.project.card.Card.Value;
-import ca.sheridancollege.project.card.DrawTwoCard;
-import ca.sheridancollege.project.card.ReverseCard;
-import ca.sheridancollege.project.card.SkipCard;
+import ca.sheridancollege.project.card.CardCode;
 import ca.sheridancollege.project.card.WildCard;
 import ca.sheridancollege.project.card.WildDrawFourCard;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * The {@code UnoDeck} class represents the classic Uno cards (108 cards).
@@ -39,6 +35,10 @@ import java.util.List;
  * </dl>
  * <br>
  *
+ * <p>The deck is backed by an array of the {@linkplain CardCode card codes}.
+ * The {@code Card} objects are the immutable cards shared by all the decks (see {@link CardCode#toCard(short)}).
+ * During a game, the array is a circular buffer of the Draw pile and the Discard pile (see {@link Game}).</p>
+ *
  * <p>Date: February 22, 2021
  *
  * @author Makoto Sakaguchi
@@ -48,113 +48,136 @@ public class UnoDeck {
     /**
      * The number of cards in classic Uno is {@value}.
      */
-    public static final int CLASSIC_UNO_CARDS = 108;
+    public static final int CLASSIC_UNO_CARDS = CardCode.CLASSIC_CARDS;
 
     /**
      * The Number of cards 1 to 9, {@code SkipCard}, {@code Reverse}, and {@code Draw Two}
      * are {@value} each in the four colours.
      */
-    public static final int COMMON_CARD_SETS = 2;
+    public static final int COMMON_CARD_SETS = CardCode.COMMON_CARD_SETS;
 
     /**
      * The Number of {@code WildCard} and {@code WildCard Draw Four} cards are {@value} each in the Uno deck.
      */
-    public static final int CLASSIC_WILD_CARDS = 4;
-
-    // The immutable list of the 1 to 9 cards.
-    private static final List<Value> COMMON_CARDS;
+    public static final int CLASSIC_WILD_CARDS = CardCode.CLASSIC_WILD_CARDS;
 
-    static {
-        COMMON_CARDS = List.of(Value.ONE, Value.TWO, Value.THREE, Value.FOUR, Value.FIVE, Value.SIX,
-            Value.SEVEN, Value.EIGHT, Value.NINE);
-    }
+    // The card codes in the order of the dense index
+    private static final short[] CLASSIC_CODES = CardCode.classicCodes();
 
-    private final ArrayList<Card> cards;
+    // The card codes in the order of this deck
+    private final short[] codes;
 
     /**
      * Initializes a newly created {@code UnoDeck} object.
      */
     public UnoDeck() {
-        cards = new ArrayList<>(CLASSIC_UNO_CARDS);
-
-        for (Color color : Color.values()) {
-            cards.add(new Card(color, Value.ZERO));
-
-            // Add 1 to 9, SkipCard, Reverse, and "Draw Two" cards into the list.
-            addCommonCards(color);
-        }
-
-        // Add WildCard and "WildCard Draw Four" cards into the list.
-        for (int i = 0; i < CLASSIC_WILD_CARDS; i++) {
-            cards.add(new WildCard());
-            cards.add(new WildDrawFourCard());
-        }
+        codes = CardCode.classicCodes();
 
         shuffle();
     }
 
     /**
-     * Returns the card list in this deck.
+     * Returns the card code at the specified position in this deck.
      *
-     * @return the card list of this deck
+     * @param index index of the card code to return
+     * @return the card code at the specified position in this deck
      */
-    public ArrayList<Card> getCards() {
-        return cards;
+    public short getCode(int index) {
+        return codes[index];
     }
 
     /**
-     * Returns the {@code Card} at the specified position in this list.
+     * Returns the {@code Card} at the specified position in this deck.
      *
      * @param index index of the card to return
-     * @return the card at the specified position in this list
-     * @see ArrayList#get(int)
+     * @return the card at the specified position in this deck
      */
     public Card getCard(int index) {
-        return cards.get(index);
+        return CardCode.toCard(codes[index]);
     }
 
     /**
-     * Returns a view of the portion of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * Returns a list of the cards between the specified fromIndex, inclusive, and toIndex, exclusive.
      * (If fromIndex and toIndex are equal, the returned list is empty.)
      *
-     * @param fromIndex low endpoint (inclusive) of the subList
-     * @param toIndex   high endpoint (exclusive) of the subList
-     * @return a view of the specified range within this list
-     * @see ArrayList#subList(int, int)
+     * @param fromIndex low endpoint (inclusive) of the range
+     * @param toIndex   high endpoint (exclusive) of the range
+     * @return a list of the cards within the specified range
      */
     public List<Card> getCardsInRange(int fromIndex, int toIndex) {
-        return cards.subList(fromIndex, toIndex);
+        List<Card> list = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) list.add(getCard(i));
+
+        return list;
     }
 
     /**
      * Returns the number of cards in this deck.
      *
      * @return the number of cards in this deck
-     * @see ArrayList#size()
      */
     public int deckSize() {
-        return cards.size();
+        return codes.length;
     }
 
     /**
-     * Randomly permutes the specified list using a default source of randomness.
-     *
-     * @see Collections#shuffle(List)
+     * Randomly permutes the cards in this deck using a default source of randomness.
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        shuffle(new SplittableRandom());
     }
 
-    /* Add 1 to 9, SkipCard, Reverse, and "Draw Two" cards into the list. */
-    private void addCommonCards(Color color) {
-        for (int i = 0; i < COMMON_CARD_SETS; i++) {
-            for (Value commonCard : COMMON_CARDS) {
-                cards.add(new Card(color, commonCard));
-            }
+    /**
+     * Randomly permutes the cards in this deck using the specified source of randomness.
+     *
+     * @param rng the source of randomness to use to shuffle the deck
+     */
+    public void shuffle(SplittableRandom rng) {
+        shuffle(0, codes.length, rng);
+    }
+
+    /**
+     * Randomly permutes the cards between the specified fromIndex, inclusive, and toIndex, exclusive,
+     * using the specified source of randomness.
+     *
+     * @param fromIndex low endpoint (inclusive) of the range to shuffle
+     * @param toIndex   high endpoint (exclusive) of the range to shuffle
+     * @param rng       the source of randomness to use to shuffle the range
+     */
+    public void shuffle(int fromIndex, int toIndex, SplittableRandom rng) {
+        // Fisher-Yates shuffle
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int j = fromIndex + rng.nextInt(i - fromIndex + 1);
+
+            short code = codes[i];
+            codes[i] = codes[j];
+            codes[j] = code;
+        }
+    }
+
+    /* Restores the cards in the order of the dense index (for reproducible shuffles). */
+    void reset() {
+        System.arraycopy(CLASSIC_CODES, 0, codes, 0, codes.length);
+    }
 
-            cards.add(new SkipCard(color));
-            cards.add(new ReverseCard(color));
-            cards.add(new DrawTwoCard(color));
+    /* Replaces the card code at the specified position (for the Discard pile). */
+    void setCode(int index, short code) {
+        codes[index] = code;
+    }
+
+    /*
+     * Randomly permutes the specified number of cards from the position, wrapping around the end of this deck.
+     * The cards are permuted in the same way as shuffle(int, int, SplittableRandom) would in a straight range.
+     */
+    void shuffleCircular(int fromIndex, int length, SplittableRandom rng) {
+        // Fisher-Yates shuffle
+        for (int i = length - 1; i > 0; i--) {
+            int a = (fromIndex + i) % codes.length;
+            int b = (fromIndex + rng.nextInt(i + 1)) % codes.length;
+
+            short code = codes[a];
+            codes[a] = codes[b];
+            codes[b] = code;
         }
     }
 }
@@ -0,0 +1,20 @@
+package ca.sheridancollege.project.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code CardDrawnEvent} class is the JFR event of a card drawn from the Draw pile.
+ */
+@Name(GameEvents.PREFIX + "CardDrawn")
+@Label("Card Drawn")
+@Category(GameEvents.CATEGORY)
+@Description("A card drawn from the Draw pile")
+@StackTrace(false)
+final class CardDrawnEvent extends GameEvent {
+    @Label("Card")
+    String card;
+}
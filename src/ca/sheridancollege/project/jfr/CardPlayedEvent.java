@@ -0,0 +1,20 @@
+package ca.sheridancollege.project.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code CardPlayedEvent} class is the JFR event of a card put down on the Discard pile.
+ */
+@Name(GameEvents.PREFIX + "CardPlayed")
+@Label("Card Played")
+@Category(GameEvents.CATEGORY)
+@Description("A card put down on the Discard pile")
+@StackTrace(false)
+final class CardPlayedEvent extends GameEvent {
+    @Label("Card")
+    String card;
+}
@@ -0,0 +1,20 @@
+package ca.sheridancollege.project.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code DrawPileRegenerationEvent} class is the JFR event of the Discard pile shuffled into a new Draw pile.
+ */
+@Name(GameEvents.PREFIX + "DrawPileRegeneration")
+@Label("Draw Pile Regeneration")
+@Category(GameEvents.CATEGORY)
+@Description("The Discard pile except for the top card was shuffled into a new Draw pile")
+@StackTrace(false)
+final class DrawPileRegenerationEvent extends GameEvent {
+    @Label("Recycled Cards")
+    int cards;
+}
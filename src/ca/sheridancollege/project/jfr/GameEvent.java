@@ -0,0 +1,19 @@
+package ca.sheridancollege.project.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * The {@code GameEvent} class is the base of the JFR events of a game, with the room and the turn that
+ * an event belongs to.
+ */
+abstract class GameEvent extends Event {
+    @Label("Room")
+    String room;
+
+    @Label("Turn")
+    int turn;
+
+    @Label("Seat")
+    int seat;
+}
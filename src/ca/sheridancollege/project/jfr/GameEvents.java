@@ -0,0 +1,170 @@
+package ca.sheridancollege.project.jfr;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardCode;
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.player.Player;
+import jdk.jfr.Event;
+
+/**
+ * <p>This class consists only of static methods that emit the JDK Flight Recorder events of the games.</p>
+ *
+ * <p>A production recording can correlate the GC pauses and the CPU samples with the rooms and the turns of the
+ * games by these events. Each method first checks if its event type is enabled, and returns without creating
+ * the event or its strings otherwise, so the events cost nothing but the check when no recording is running.</p>
+ */
+public final class GameEvents {
+    /**
+     * The category of the events is {@value}.
+     */
+    public static final String CATEGORY = "UNO";
+
+    /**
+     * The prefix of the names of the events is {@value}.
+     */
+    public static final String PREFIX = "ca.sheridancollege.project.";
+
+    // The events that are never committed, only to check if their types are enabled: the check of an event object
+    // reads the state of its type directly, while EventType#isEnabled() goes through the registry of the recorder
+    private static final Event GAME_START = new GameStartEvent();
+    private static final Event TURN = new TurnEvent();
+    private static final Event CARD_PLAYED = new CardPlayedEvent();
+    private static final Event CARD_DRAWN = new CardDrawnEvent();
+    private static final Event PENALTY = new PenaltyEvent();
+    private static final Event WILD_COLOR = new WildColorEvent();
+    private static final Event REGENERATION = new DrawPileRegenerationEvent();
+
+    private GameEvents() { }
+
+    /**
+     * Emits the start of the game after the deal.
+     *
+     * @param game the game
+     */
+    public static void gameStart(Game game) {
+        if (!GAME_START.isEnabled()) return;
+
+        GameStartEvent event = new GameStartEvent();
+        set(event, game, game.getTurnOrder().getCurrentSeat());
+        event.players = game.getTurnOrder().size();
+        event.seed = game.getSeed();
+        event.commit();
+    }
+
+    /**
+     * Begins a turn of the current player of the game.
+     *
+     * @param game the game
+     * @return the event of the turn to {@linkplain #endTurn(Event) end}, or {@code null} if it is not enabled
+     */
+    public static Event beginTurn(Game game) {
+        if (!TURN.isEnabled()) return null;
+
+        TurnEvent event = new TurnEvent();
+        set(event, game, game.getTurnOrder().getCurrentSeat());
+        event.player = game.getTurnOrder().current().getPlayerId();
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * Ends a turn begun by {@link #beginTurn(Game)}.
+     *
+     * @param turn the event of the turn, or {@code null} to do nothing
+     */
+    public static void endTurn(Event turn) {
+        if (turn == null) return;
+
+        turn.end();
+        if (turn.shouldCommit()) turn.commit();
+    }
+
+    /**
+     * Emits a card put down on the Discard pile.
+     *
+     * @param game the game
+     * @param seat the seat of the player who played the card
+     * @param code the card code
+     */
+    public static void cardPlayed(Game game, int seat, short code) {
+        if (!CARD_PLAYED.isEnabled()) return;
+
+        CardPlayedEvent event = new CardPlayedEvent();
+        set(event, game, seat);
+        event.card = CardCode.toCard(code).toString();
+        event.commit();
+    }
+
+    /**
+     * Emits a card drawn from the Draw pile.
+     *
+     * @param game the game
+     * @param player the player who drew the card
+     * @param code   the card code
+     */
+    public static void cardDrawn(Game game, Player player, short code) {
+        if (!CARD_DRAWN.isEnabled()) return;
+
+        CardDrawnEvent event = new CardDrawnEvent();
+        set(event, game, game.getTurnOrder().seatOf(player));
+        event.card = CardCode.toCard(code).toString();
+        event.commit();
+    }
+
+    /**
+     * Emits a penalty on a player.
+     *
+     * @param game        the game
+     * @param player      the penalized player
+     * @param penaltyType the type of the penalty
+     */
+    public static void penalty(Game game, Player player, Game.PenaltyTypes penaltyType) {
+        if (!PENALTY.isEnabled()) return;
+
+        PenaltyEvent event = new PenaltyEvent();
+        set(event, game, game.getTurnOrder().seatOf(player));
+        event.type = penaltyType.name();
+        event.cards = penaltyType.getNumber();
+        event.commit();
+    }
+
+    /**
+     * Emits the colour declared for a Wild card.
+     *
+     * @param game         the game
+     * @param seat         the seat of the player who declared the colour
+     * @param color        the declared colour
+     * @param chosenOnPlay {@code true} if the player chose the colour when the card was played
+     */
+    public static void wildColor(Game game, int seat, Card.Color color, boolean chosenOnPlay) {
+        if (!WILD_COLOR.isEnabled()) return;
+
+        WildColorEvent event = new WildColorEvent();
+        set(event, game, seat);
+        event.color = color.name();
+        event.chosenOnPlay = chosenOnPlay;
+        event.commit();
+    }
+
+    /**
+     * Emits the regeneration of the Draw pile.
+     *
+     * @param game  the game
+     * @param cards the number of the cards shuffled into the new Draw pile
+     */
+    public static void drawPileRegeneration(Game game, int cards) {
+        if (!REGENERATION.isEnabled()) return;
+
+        DrawPileRegenerationEvent event = new DrawPileRegenerationEvent();
+        set(event, game, -1);
+        event.cards = cards;
+        event.commit();
+    }
+
+    private static void set(GameEvent event, Game game, int seat) {
+        event.room = game.getGameName();
+        event.turn = game.getTurns();
+        event.seat = seat;
+    }
+}
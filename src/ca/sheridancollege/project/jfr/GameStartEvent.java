@@ -0,0 +1,23 @@
+package ca.sheridancollege.project.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code GameStartEvent} class is the JFR event of the start of a game after the deal.
+ */
+@Name(GameEvents.PREFIX + "GameStart")
+@Label("Game Start")
+@Category(GameEvents.CATEGORY)
+@Description("A game started with the players seated and the cards dealt")
+@StackTrace(false)
+final class GameStartEvent extends GameEvent {
+    @Label("Players")
+    int players;
+
+    @Label("Seed")
+    long seed;
+}
@@ -0,0 +1,23 @@
+package ca.sheridancollege.project.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code PenaltyEvent} class is the JFR event of a penalty on a player.
+ */
+@Name(GameEvents.PREFIX + "Penalty")
+@Label("Penalty")
+@Category(GameEvents.CATEGORY)
+@Description("A player must draw cards as a penalty")
+@StackTrace(false)
+final class PenaltyEvent extends GameEvent {
+    @Label("Penalty Type")
+    String type;
+
+    @Label("Cards")
+    int cards;
+}
@@ -0,0 +1,20 @@
+package ca.sheridancollege.project.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code TurnEvent} class is the JFR event that spans a turn of a player, including the wait for their input.
+ */
+@Name(GameEvents.PREFIX + "Turn")
+@Label("Turn")
+@Category(GameEvents.CATEGORY)
+@Description("A turn of a player, from the prompt or the decision to the end of the turn")
+@StackTrace(false)
+final class TurnEvent extends GameEvent {
+    @Label("Player")
+    String player;
+}
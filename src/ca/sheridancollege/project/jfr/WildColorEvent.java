@@ -0,0 +1,24 @@
+package ca.sheridancollege.project.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code WildColorEvent} class is the JFR event of the colour declared for a Wild card.
+ */
+@Name(GameEvents.PREFIX + "WildColor")
+@Label("Wild Colour")
+@Category(GameEvents.CATEGORY)
+@Description("The colour declared for a Wild card")
+@StackTrace(false)
+final class WildColorEvent extends GameEvent {
+    @Label("Colour")
+    String color;
+
+    @Label("Chosen on Play")
+    @Description("The colour was chosen when the card was played, rather than declared in advance")
+    boolean chosenOnPlay;
+}
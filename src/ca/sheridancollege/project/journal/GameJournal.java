@@ -0,0 +1,39 @@
+package ca.sheridancollege.project.journal;
+
+import java.io.Closeable;
+
+/**
+ * The {@code GameJournal} interface records the events of a game as {@linkplain JournalRecord binary records}.
+ *
+ * <p>A journal is written only by the thread that plays the game.
+ * The {@link #NONE} journal records nothing.</p>
+ */
+public interface GameJournal extends Closeable {
+    /**
+     * The journal that records nothing.
+     */
+    GameJournal NONE = (type, seat, code, arg) -> { };
+
+    /**
+     * Appends the record of an event to this journal.
+     *
+     * @param type the type of the event
+     * @param seat the seat number of the player, or {@link JournalRecord#NO_SEAT}
+     * @param code the card code, or {@code 0}
+     * @param arg  the argument of the event
+     */
+    void append(JournalRecord.Type type, int seat, short code, int arg);
+
+    /**
+     * Writes the appended records to the storage.
+     */
+    default void flush() { }
+
+    /**
+     * Flushes and closes this journal.
+     */
+    @Override
+    default void close() {
+        flush();
+    }
+}
@@ -0,0 +1,113 @@
+package ca.sheridancollege.project.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>The {@code JournalReader} class reads the records of a {@link MappedJournal} in the order they were appended.</p>
+ *
+ * <p>The segment files are mapped into memory one by one, and the records of each segment are read up to
+ * its unused end. The journals that were opened again are read as one sequence of records.</p>
+ */
+public class JournalReader implements Closeable {
+    private final Path directory;
+    private final String name;
+
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+
+    // The next record, or 0 if it has not been read yet
+    private long nextRecord;
+
+    /**
+     * Opens the journal of the specified name in the directory for reading.
+     *
+     * @param directory the directory of the segment files
+     * @param name      the name of the journal
+     * @throws IOException if an I/O error occurs while mapping the first segment
+     */
+    public JournalReader(Path directory, String name) throws IOException {
+        this.directory = directory;
+        this.name = name;
+        segmentIndex = 0;
+        segment = mapSegment(segmentIndex);
+    }
+
+    /**
+     * Returns {@code true} if the journal has more records.
+     *
+     * @return {@code true} if the journal has more records, otherwise {@code false}
+     * @throws UncheckedIOException if an I/O error occurs while mapping the next segment
+     */
+    public boolean hasNext() {
+        return JournalRecord.isWritten(peek());
+    }
+
+    /**
+     * Returns the next record without reading it.
+     *
+     * @return the next record, or {@code 0} if no records are left
+     * @throws UncheckedIOException if an I/O error occurs while mapping the next segment
+     */
+    public long peek() {
+        while (nextRecord == 0L && segment != null) {
+            if (segment.remaining() >= JournalRecord.BYTES) {
+                nextRecord = segment.getLong();
+                if (JournalRecord.isWritten(nextRecord)) break;
+            }
+
+            // The unused end of the segment
+            nextSegment();
+        }
+
+        return nextRecord;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the next record
+     * @throws NoSuchElementException if no records are left
+     * @throws UncheckedIOException   if an I/O error occurs while mapping the next segment
+     */
+    public long next() {
+        long record = peek();
+        if (!JournalRecord.isWritten(record)) throw new NoSuchElementException();
+
+        nextRecord = 0L;
+        return record;
+    }
+
+    @Override
+    public void close() {
+        segment = null;
+        nextRecord = 0L;
+    }
+
+    private void nextSegment() {
+        try {
+            segment = mapSegment(++segmentIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* Maps the segment file into memory, or returns null if the segment does not exist. */
+    private MappedByteBuffer mapSegment(int index) throws IOException {
+        Path path = MappedJournal.segmentPath(directory, name, index);
+        if (!Files.exists(path)) return null;
+
+        try (FileChannel channel = FileChannel.open(path)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(MappedJournal.BYTE_ORDER);
+
+            return buffer;
+        }
+    }
+}
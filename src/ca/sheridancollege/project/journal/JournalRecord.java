@@ -0,0 +1,159 @@
+package ca.sheridancollege.project.journal;
+
+/**
+ * This class consists only of static methods that operate the binary records of a {@link GameJournal}.
+ *
+ * <p>A record is a {@code long} (8 bytes) made from the {@linkplain Type type} (1 byte),
+ * the seat number of the player (1 byte), the {@linkplain ca.sheridancollege.project.card.CardCode card code}
+ * (2 bytes), and an argument (4 bytes) whose meaning depends on the type.
+ * A record of zeros is never written, so it marks the unused end of a journal segment.</p>
+ */
+public final class JournalRecord {
+    /**
+     * The size of a record in bytes is {@value}.
+     */
+    public static final int BYTES = Long.BYTES;
+
+    /**
+     * The seat number of the records that are not of a player is {@value}.
+     */
+    public static final int NO_SEAT = 0xFF;
+
+    private static final Type[] TYPES = Type.values();
+
+    private static final int TYPE_SHIFT = 56;
+    private static final int SEAT_SHIFT = 48;
+    private static final int CODE_SHIFT = 32;
+
+    private static final int BYTE_MASK = 0xFF;
+    private static final int SHORT_MASK = 0xFFFF;
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+
+    /**
+     * The types of the game events.
+     */
+    public enum Type {
+        /**
+         * A new game starts. The seat is the number of players, and the argument is the seat of the first player.
+         */
+        START,
+        /**
+         * A card (code) is dealt to the player in the seat.
+         */
+        DEAL,
+        /**
+         * The first card (code) of the Discard pile is turned up.
+         */
+        FLIP,
+        /**
+         * The turn of the player in the seat begins. The argument is the number of the turn.
+         */
+        TURN,
+        /**
+         * The player in the seat draws the card (code).
+         */
+        DRAW,
+        /**
+         * The player in the seat plays the card (code).
+         */
+        PLAY,
+        /**
+         * The player in the seat declares the colour (the argument is its ordinal) of a Wild card.
+         */
+        COLOR,
+        /**
+         * The player in the seat reverses the direction of play.
+         */
+        REVERSE,
+        /**
+         * The player in the seat is skipped their turn.
+         */
+        SKIP,
+        /**
+         * The player in the seat must draw the cards as a penalty (the argument is the ordinal of its type).
+         */
+        PENALTY,
+        /**
+         * The Discard pile except for the top card is shuffled into a new Draw pile.
+         * The argument is the number of the recycled cards.
+         */
+        RECYCLE,
+        /**
+         * The player in the seat wins the game. The argument is the number of turns.
+         */
+        WIN,
+        /**
+         * The player in the seat decides on the Wild Draw 4 card played on them.
+         * The argument is {@code 1} if the player challenges it, otherwise {@code 0}.
+         */
+        CHALLENGE
+    }
+
+    private JournalRecord() { }
+
+    /**
+     * Returns the record of the specified fields.
+     *
+     * @param type the type of the event
+     * @param seat the seat number of the player, or {@link #NO_SEAT}
+     * @param code the card code, or {@code 0}
+     * @param arg  the argument of the event
+     * @return the record
+     */
+    public static long encode(Type type, int seat, short code, int arg) {
+        return ((long) (type.ordinal() + 1) << TYPE_SHIFT)
+                   | ((long) (seat & BYTE_MASK) << SEAT_SHIFT)
+                   | ((long) (code & SHORT_MASK) << CODE_SHIFT)
+                   | (arg & INT_MASK);
+    }
+
+    /**
+     * Returns {@code true} if the specified record is written (not the unused end of a segment).
+     *
+     * @param record the record
+     * @return {@code true} if the record is written, otherwise {@code false}
+     */
+    public static boolean isWritten(long record) {
+        return record != 0L;
+    }
+
+    /**
+     * Returns the type of the specified record.
+     *
+     * @param record the written record
+     * @return the type of the event
+     */
+    public static Type type(long record) {
+        return TYPES[(int) (record >>> TYPE_SHIFT) - 1];
+    }
+
+    /**
+     * Returns the seat number of the specified record.
+     *
+     * @param record the record
+     * @return the seat number of the player, or {@link #NO_SEAT}
+     */
+    public static int seat(long record) {
+        return (int) (record >>> SEAT_SHIFT) & BYTE_MASK;
+    }
+
+    /**
+     * Returns the card code of the specified record.
+     *
+     * @param record the record
+     * @return the card code
+     */
+    public static short code(long record) {
+        return (short) (record >>> CODE_SHIFT);
+    }
+
+    /**
+     * Returns the argument of the specified record.
+     *
+     * @param record the record
+     * @return the argument of the event
+     */
+    public static int arg(long record) {
+        return (int) record;
+    }
+}
@@ -0,0 +1,143 @@
+package ca.sheridancollege.project.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>The {@code MappedJournal} class appends the records of the games to memory-mapped segment files.</p>
+ *
+ * <p>The journal of a room is a segmented log: the files {@code <name>-000000.journal},
+ * {@code <name>-000001.journal}, ... in a directory. Each segment is created with a fixed size and mapped into
+ * memory, so appending a record is a single store into the mapped buffer without any system call.
+ * When a segment is full, the next one is created. A new journal never overwrites the existing segments.</p>
+ *
+ * <p>The records are written in little-endian byte order, and the unused end of the last segment is zeros.
+ * The operating system writes the mapped pages back to the files, even if the program ends without closing.</p>
+ */
+public class MappedJournal implements GameJournal {
+    /**
+     * The default number of records in a segment is {@value} (1 MiB).
+     */
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 17;
+
+    /**
+     * The byte order of the records.
+     */
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final String SEGMENT_NAME_FORMAT = "%s-%06d.journal";
+
+    private final Path directory;
+    private final String name;
+    private final long segmentBytes;
+
+    // The mapped current segment, or null if this journal is closed
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+
+    /**
+     * Opens the journal of the specified name in the directory with the default segment size.
+     *
+     * @param directory the directory of the segment files
+     * @param name      the name of the journal (e.g. the room name)
+     * @throws IOException if an I/O error occurs while creating the first segment
+     */
+    public MappedJournal(Path directory, String name) throws IOException {
+        this(directory, name, DEFAULT_SEGMENT_RECORDS);
+    }
+
+    /**
+     * Opens the journal of the specified name in the directory with the specified number of records in a segment.
+     *
+     * @param directory      the directory of the segment files
+     * @param name           the name of the journal (e.g. the room name)
+     * @param segmentRecords the number of records in a segment
+     * @throws IOException if an I/O error occurs while creating the first segment
+     */
+    public MappedJournal(Path directory, String name, int segmentRecords) throws IOException {
+        if (segmentRecords <= 0) throw new IllegalArgumentException("The segment must hold at least one record.");
+
+        this.directory = Files.createDirectories(directory);
+        this.name = name;
+        segmentBytes = (long) segmentRecords * JournalRecord.BYTES;
+
+        // Append after the existing segments
+        segmentIndex = 0;
+        while (Files.exists(segmentPath(directory, name, segmentIndex))) segmentIndex++;
+        segment = mapSegment(segmentIndex);
+    }
+
+    /**
+     * Returns the path of the specified segment of the journal.
+     *
+     * @param directory the directory of the segment files
+     * @param name      the name of the journal
+     * @param index     the index of the segment
+     * @return the path of the segment file
+     */
+    public static Path segmentPath(Path directory, String name, int index) {
+        return directory.resolve(SEGMENT_NAME_FORMAT.formatted(name, index));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if this journal is closed
+     * @throws UncheckedIOException  if an I/O error occurs while creating the next segment
+     */
+    @Override
+    public void append(JournalRecord.Type type, int seat, short code, int arg) {
+        if (segment == null) throw new IllegalStateException("The journal " + name + " is closed.");
+        if (!segment.hasRemaining()) nextSegment();
+
+        segment.putLong(JournalRecord.encode(type, seat, code, arg));
+    }
+
+    /**
+     * Forces the records in the current segment to be written to the file.
+     */
+    @Override
+    public void flush() {
+        if (segment != null) segment.force();
+    }
+
+    /**
+     * Forces the records in the current segment to be written to the file, and drops the mapping of the segment.
+     * The memory of the mapping is released when the buffer is garbage collected; no more records can be appended.
+     * Closing a closed journal has no effect.
+     */
+    @Override
+    public void close() {
+        if (segment == null) return;
+
+        segment.force();
+        segment = null;
+    }
+
+    /* The full segment is written back by the operating system, so it is not forced on the write path. */
+    private void nextSegment() {
+        try {
+            segment = mapSegment(++segmentIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* Creates the segment file and maps it into memory. The mapping remains valid after the channel is closed. */
+    private MappedByteBuffer mapSegment(int index) throws IOException {
+        Path path = segmentPath(directory, name, index);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            buffer.order(BYTE_ORDER);
+
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package ca.sheridancollege.project.metrics;
+
+import ca.sheridancollege.project.game.Game.PenaltyTypes;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The {@code GameMetrics} class collects the counters and latencies of the games for the operators.</p>
+ *
+ * <p>All the counters are {@link LongAdder}s and the latencies are {@linkplain LatencyHistogram lock-free
+ * histograms}, so the games on many threads record into the same metrics without any lock. To leave the metrics
+ * on at full simulation throughput, a game counts its draws, plays, and penalties in its own fields and adds them
+ * here once in its {@linkplain ca.sheridancollege.project.game.Game#setMetricsInterval(int) metrics interval} and
+ * when it ends, and the latencies are sampled from the first turn of each interval. The games record into the
+ * {@linkplain #getDefault() default metrics} unless
+ * {@linkplain ca.sheridancollege.project.game.Game#setMetrics(GameMetrics) set} otherwise.</p>
+ *
+ * <p>The metrics are exposed through JMX (see {@link #registerMBean()}) and as text lines in the Prometheus
+ * exposition format (see {@link #writeText(Appendable)} and {@link MetricsEndpoint}).</p>
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    /**
+     * The object name of the default metrics in the platform MBean server is {@value}.
+     */
+    public static final String OBJECT_NAME = "ca.sheridancollege.project:type=GameMetrics";
+
+    private static final PenaltyTypes[] PENALTY_TYPES = PenaltyTypes.values();
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+
+    // Initialized after the constants above, which the constructor uses
+    private static final GameMetrics DEFAULT = new GameMetrics();
+
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder gamesFinished = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder cardsPlayed = new LongAdder();
+    private final LongAdder regenerations = new LongAdder();
+    private final LongAdder[] penalties = new LongAdder[PENALTY_TYPES.length];
+
+    // The time from the beginning to the end of a turn, of Player.play(), and of a whole game
+    private final LatencyHistogram turnLatency = new LatencyHistogram();
+    private final LatencyHistogram playLatency = new LatencyHistogram();
+    private final LatencyHistogram gameDuration = new LatencyHistogram();
+
+    /**
+     * Constructs new metrics with all the counters zero.
+     */
+    public GameMetrics() {
+        for (int i = 0; i < penalties.length; i++) penalties[i] = new LongAdder();
+    }
+
+    /**
+     * Returns the metrics that the games record into by default.
+     *
+     * @return the default metrics
+     */
+    public static GameMetrics getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Registers these metrics in the platform MBean server as {@value #OBJECT_NAME}.
+     *
+     * @throws JMException if the metrics cannot be registered, e.g. other metrics are already registered
+     */
+    public void registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Records the beginning of a game. A game that a player quits, or that fails, is started but never finished.
+     */
+    public void recordGameStarted() {
+        gamesStarted.increment();
+    }
+
+    /**
+     * Records the end of a game.
+     *
+     * @param nanos the duration of the game in nanoseconds
+     */
+    public void recordGameFinished(long nanos) {
+        gamesFinished.increment();
+        gameDuration.record(nanos);
+    }
+
+    /**
+     * Records the counts of a game since its last record. The zero counts are skipped.
+     *
+     * @param gameTurns   the number of the turns played
+     * @param gameDraws   the number of the cards drawn
+     * @param gameCards   the number of the cards played
+     * @param regenerated the number of the times the Draw pile was regenerated
+     */
+    public void recordCounts(int gameTurns, int gameDraws, int gameCards, int regenerated) {
+        if (gameTurns != 0) turns.add(gameTurns);
+        if (gameDraws != 0) draws.add(gameDraws);
+        if (gameCards != 0) cardsPlayed.add(gameCards);
+        if (regenerated != 0) regenerations.add(regenerated);
+    }
+
+    /**
+     * Records the penalties of a type in a game since its last record.
+     *
+     * @param penaltyType the type of the penalties
+     * @param count       the number of the penalties
+     */
+    public void recordPenalties(PenaltyTypes penaltyType, int count) {
+        penalties[penaltyType.ordinal()].add(count);
+    }
+
+    /**
+     * Records the latency of a turn.
+     *
+     * @param nanos the time from the beginning to the end of the turn in nanoseconds
+     */
+    public void recordTurn(long nanos) {
+        turnLatency.record(nanos);
+    }
+
+    /**
+     * Records the time that a player took to play (or to prompt for) their turn.
+     *
+     * @param nanos the time of {@link ca.sheridancollege.project.player.Player#play()} in nanoseconds
+     */
+    public void recordPlay(long nanos) {
+        playLatency.record(nanos);
+    }
+
+    @Override
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    @Override
+    public long getGamesFinished() {
+        return gamesFinished.sum();
+    }
+
+    @Override
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    @Override
+    public long getDraws() {
+        return draws.sum();
+    }
+
+    @Override
+    public long getCardsPlayed() {
+        return cardsPlayed.sum();
+    }
+
+    @Override
+    public long getDrawPileRegenerations() {
+        return regenerations.sum();
+    }
+
+    /**
+     * Returns the number of the penalties of the specified type.
+     *
+     * @param penaltyType the type of the penalty
+     * @return the number of the penalties
+     */
+    public long getPenalties(PenaltyTypes penaltyType) {
+        return penalties[penaltyType.ordinal()].sum();
+    }
+
+    @Override
+    public Map<String, Long> getPenalties() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (PenaltyTypes penaltyType : PENALTY_TYPES) map.put(penaltyType.name(), getPenalties(penaltyType));
+
+        return map;
+    }
+
+    @Override
+    public double getDrawsPerGame() {
+        long games = getGamesFinished();
+        return games > 0 ? (double) getDraws() / games : 0;
+    }
+
+    @Override
+    public double getTurnLatencyMeanNanos() {
+        return turnLatency.getMean();
+    }
+
+    @Override
+    public long getTurnLatencyP50Nanos() {
+        return turnLatency.getPercentile(P50);
+    }
+
+    @Override
+    public long getTurnLatencyP99Nanos() {
+        return turnLatency.getPercentile(P99);
+    }
+
+    @Override
+    public long getTurnLatencyMaxNanos() {
+        return turnLatency.getMax();
+    }
+
+    @Override
+    public double getPlayLatencyMeanNanos() {
+        return playLatency.getMean();
+    }
+
+    @Override
+    public long getPlayLatencyP50Nanos() {
+        return playLatency.getPercentile(P50);
+    }
+
+    @Override
+    public long getPlayLatencyP99Nanos() {
+        return playLatency.getPercentile(P99);
+    }
+
+    @Override
+    public long getPlayLatencyMaxNanos() {
+        return playLatency.getMax();
+    }
+
+    @Override
+    public double getGameDurationMeanNanos() {
+        return gameDuration.getMean();
+    }
+
+    @Override
+    public long getGameDurationP99Nanos() {
+        return gameDuration.getPercentile(P99);
+    }
+
+    /**
+     * Writes these metrics as text lines in the Prometheus exposition format.
+     *
+     * @param out the destination of the text
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeText(Appendable out) throws IOException {
+        writeCounter(out, "uno_games_started_total", getGamesStarted());
+        writeCounter(out, "uno_games_finished_total", getGamesFinished());
+        writeCounter(out, "uno_turns_total", getTurns());
+        writeCounter(out, "uno_draws_total", getDraws());
+        writeCounter(out, "uno_cards_played_total", getCardsPlayed());
+        writeCounter(out, "uno_draw_pile_regenerations_total", getDrawPileRegenerations());
+
+        out.append("# TYPE uno_penalties_total counter\n");
+        for (PenaltyTypes penaltyType : PENALTY_TYPES) {
+            out.append("uno_penalties_total{type=\"").append(penaltyType.name()).append("\"} ")
+               .append(Long.toString(getPenalties(penaltyType))).append('\n');
+        }
+
+        writeHistogram(out, "uno_turn_latency_nanos", turnLatency);
+        writeHistogram(out, "uno_play_latency_nanos", playLatency);
+        writeHistogram(out, "uno_game_duration_nanos", gameDuration);
+    }
+
+    /* Writes the type and the value of the counter. */
+    private static void writeCounter(Appendable out, String name, long value) throws IOException {
+        out.append("# TYPE ").append(name).append(" counter\n")
+           .append(name).append(' ').append(Long.toString(value)).append('\n');
+    }
+
+    /* Writes the cumulative buckets up to the last non-empty one, then the total count and sum. */
+    private static void writeHistogram(Appendable out, String name, LatencyHistogram histogram) throws IOException {
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        int last = -1;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = histogram.getBucketCount(i);
+            if (counts[i] > 0) last = i;
+        }
+
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        long cumulative = 0;
+        for (int i = 0; i <= last; i++) {
+            cumulative += counts[i];
+            out.append(name).append("_bucket{le=\"").append(Long.toString(LatencyHistogram.getUpperBound(i)))
+               .append("\"} ").append(Long.toString(cumulative)).append('\n');
+        }
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(Long.toString(cumulative)).append('\n')
+           .append(name).append("_sum ").append(Long.toString(histogram.getSum())).append('\n')
+           .append(name).append("_count ").append(Long.toString(cumulative)).append('\n');
+    }
+}
@@ -0,0 +1,49 @@
+package ca.sheridancollege.project.metrics;
+
+import java.util.Map;
+
+/**
+ * The {@code GameMetricsMXBean} interface is the management interface of the {@link GameMetrics} for JMX.
+ */
+public interface GameMetricsMXBean {
+    long getGamesStarted();
+
+    long getGamesFinished();
+
+    long getTurns();
+
+    long getDraws();
+
+    long getCardsPlayed();
+
+    long getDrawPileRegenerations();
+
+    /**
+     * Returns the number of the penalties by the name of the penalty type.
+     *
+     * @return the number of the penalties by type
+     */
+    Map<String, Long> getPenalties();
+
+    double getDrawsPerGame();
+
+    double getTurnLatencyMeanNanos();
+
+    long getTurnLatencyP50Nanos();
+
+    long getTurnLatencyP99Nanos();
+
+    long getTurnLatencyMaxNanos();
+
+    double getPlayLatencyMeanNanos();
+
+    long getPlayLatencyP50Nanos();
+
+    long getPlayLatencyP99Nanos();
+
+    long getPlayLatencyMaxNanos();
+
+    double getGameDurationMeanNanos();
+
+    long getGameDurationP99Nanos();
+}
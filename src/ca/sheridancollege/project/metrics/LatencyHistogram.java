@@ -0,0 +1,126 @@
+package ca.sheridancollege.project.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The {@code LatencyHistogram} class counts the latencies in nanoseconds in the buckets of the powers of two.</p>
+ *
+ * <p>The bucket of a latency is the number of its significant bits, so recording is a leading-zero count and an
+ * increment of a {@link LongAdder} without any lock, and many threads can record at the same time without
+ * contending on a single counter. The percentiles are the upper bounds of the buckets, i.e. accurate to within
+ * a factor of two, which is enough to tell a microsecond from a millisecond.</p>
+ */
+public final class LatencyHistogram {
+    /**
+     * The number of the buckets is {@value}: the bucket {@code 0} is for zero, and the bucket {@code b} for the
+     * latencies from {@code 2^(b-1)} to {@code 2^b - 1} nanoseconds.
+     */
+    public static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    /**
+     * Records the latency. A negative latency (e.g. of a clock that went back) is recorded as zero.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(latency)].increment();
+        sum.add(latency);
+        max.accumulate(latency);
+    }
+
+    /**
+     * Returns the number of the latencies in the specified bucket.
+     *
+     * @param bucket the bucket from {@code 0} to {@link #BUCKETS} - 1
+     * @return the number of the latencies in the bucket
+     */
+    public long getBucketCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     * Returns the upper bound of the specified bucket in nanoseconds.
+     *
+     * @param bucket the bucket from {@code 0} to {@link #BUCKETS} - 1
+     * @return the largest latency in the bucket
+     */
+    public static long getUpperBound(int bucket) {
+        return bucket < BUCKETS - 1 ? (1L << bucket) - 1 : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of the recorded latencies.
+     *
+     * @return the number of the latencies
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) count += bucket.sum();
+
+        return count;
+    }
+
+    /**
+     * Returns the sum of the recorded latencies in nanoseconds.
+     *
+     * @return the sum of the latencies
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the largest recorded latency in nanoseconds.
+     *
+     * @return the largest latency, or {@code 0} if none is recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies in nanoseconds.
+     *
+     * @return the mean latency, or {@code 0} if none is recorded
+     */
+    public double getMean() {
+        long count = getCount();
+        return count > 0 ? (double) getSum() / count : 0;
+    }
+
+    /**
+     * Returns the upper bound of the bucket that contains the specified percentile of the latencies.
+     *
+     * @param percentile the percentile from {@code 0} to {@code 100}
+     * @return the latency in nanoseconds that the percentile of the latencies do not exceed,
+     *     or {@code 0} if none is recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) count += counts[i] = buckets[i].sum();
+        if (count == 0) return 0;
+
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) return Math.min(getUpperBound(i), getMax());
+        }
+
+        return getMax();
+    }
+}
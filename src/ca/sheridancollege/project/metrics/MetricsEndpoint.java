@@ -0,0 +1,81 @@
+package ca.sheridancollege.project.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>The {@code MetricsEndpoint} class serves the {@link GameMetrics} as text over HTTP for a pull-style
+ * monitoring system, e.g. {@code curl http://localhost:9796/metrics}.</p>
+ *
+ * <p>The metrics are read from the lock-free counters on each request, on the single thread of the endpoint,
+ * so scraping does not stop the games.</p>
+ */
+public final class MetricsEndpoint implements Closeable {
+    /**
+     * The path of the metrics is {@value}.
+     */
+    public static final String PATH = "/metrics";
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final int OK = 200;
+    private static final int METHOD_NOT_ALLOWED = 405;
+
+    private final HttpServer server;
+    private final GameMetrics metrics;
+
+    /**
+     * Starts an endpoint of the metrics bound to the specified address.
+     *
+     * @param address the address to bind, or the port {@code 0} for an ephemeral port
+     * @param metrics the metrics to serve
+     * @throws IOException if an I/O error occurs while binding the address
+     */
+    public MetricsEndpoint(InetSocketAddress address, GameMetrics metrics) throws IOException {
+        this.metrics = metrics;
+        server = HttpServer.create(address, 0);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    /**
+     * Returns the port number to which this endpoint is bound.
+     *
+     * @return the local port number
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops this endpoint.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(METHOD_NOT_ALLOWED, -1);
+                return;
+            }
+
+            StringBuilder text = new StringBuilder();
+            metrics.writeText(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(OK, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package ca.sheridancollege.project.player;
 
 import ca.sheridancollege.project.card.Card;
-import ca.sheridancollege.project.card.WildCard;
+import ca.sheridancollege.project.card.CardCompatibility;
 import ca.sheridancollege.project.game.Game;
 import ca.sheridancollege.project.util.Message;
 
 import java.util.Objects;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p>The {@code ComputerPlayer} class represents a CPU player.
@@ -23,11 +24,16 @@ import java.util.Random;
 public class ComputerPlayer extends Player {
     private static final String PLAYER_NAME_PREFIX = Message.getMessage("comp.player.name.prefix");
 
+    // Challenges a Wild Draw 4 card played by a player with this many cards or more
+    private static final int CHALLENGE_HAND_SIZE = 5;
+
     private final int playerNumber;
 
-    // For multi-thread
-    //ThreadLocalRandom.current()
-    private final Random rng;
+    // Split from the source of randomness of the game, not shared with any other thread
+    private final SplittableRandom rng;
+
+    // The cards that can be played on this turn
+    private final long[] playableRow = new long[CardCompatibility.WORDS];
 
     /**
      * A constructor that sets the player name in the format "Player {number}".
@@ -36,11 +42,22 @@ public class ComputerPlayer extends Player {
      * @param gameSession the game room
      */
     public ComputerPlayer(int id, Game gameSession) {
+        this(id, gameSession, new SplittableRandom());
+    }
+
+    /**
+     * A constructor that sets the player name in the format "Player {number}" and
+     * the source of randomness for the decisions of this player.
+     *
+     * @param id          player number as a suffix for this player ID
+     * @param gameSession the game room
+     * @param rng         the source of randomness for the decisions of this player
+     */
+    public ComputerPlayer(int id, Game gameSession, SplittableRandom rng) {
         super(PLAYER_NAME_PREFIX.formatted(id));
         playerNumber = id;
         this.gameSession = gameSession;
-
-        rng = new Random(new Random().nextLong());
+        this.rng = rng;
     }
 
     /**
@@ -53,20 +70,22 @@ public class ComputerPlayer extends Player {
     }
 
     @Override
-    public void play() {
-        playHandCard();
-
+    public boolean play() {
         // Randomly decide whether to play from their hand or draw a card
         if (rng.nextBoolean()) playHandCard();
         else drawCard();
+
+        return true;
     }
 
     @Override
     public void drawCard() {
-        Card card = gameSession.draw(getPlayerId());
+        Card card = gameSession.draw(this);
+        if (card == null) return;
 
         // If the drawn card is playable, randomly decide whether to play it or add it to their hand
-        if (gameSession.isPlayableCard(card) && rng.nextBoolean()) {
+        updatePlayableRow();
+        if (CardCompatibility.contains(playableRow, card.getCode()) && rng.nextBoolean()) {
             gameSession.playCard(card);
         } else {
             addHand(card);
@@ -81,6 +100,12 @@ public class ComputerPlayer extends Player {
         return colors[rng.nextInt(colors.length)];
     }
 
+    @Override
+    public CompletableFuture<Boolean> challenge(Player challenged) {
+        // The more cards the player holds, the more likely the player has a card of the previous colour
+        return CompletableFuture.completedFuture(challenged.handSize() >= CHALLENGE_HAND_SIZE);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(super.hashCode(), playerNumber);
@@ -112,18 +137,19 @@ public class ComputerPlayer extends Player {
     }
 
     private void playHandCard() {
-        Card discardCard = gameSession.getTopDiscardCard();
-        boolean noMatchingColor = nonMatchColor(discardCard.getColor());
+        updatePlayableRow();
+        if (!handCards.containsAny(playableRow)) {
+            drawCard();
+            return;
+        }
 
         int handSize = handCards.size();
         for (int i = 0; i < handSize; i++) {
-            Card card = handCards.get(i);
-            if (discardCard.matchCard(card)
-                    || (Game.isWildDrawFour(card) ? noMatchingColor : card instanceof WildCard)) {
+            if (CardCompatibility.contains(playableRow, handCards.get(i).getCode())) {
                 // Auto UNO call
                 callUno();
 
-                // Put a card (set a colour for a Wild card later)
+                // Put a card (the game asks for the colour of a Wild card)
                 gameSession.playCard(handCards.remove(i));
                 return;
             }
@@ -131,4 +157,27 @@ public class ComputerPlayer extends Player {
 
         drawCard();
     }
+
+    /* Updates the cards that can be played on this turn, both from the hand and the drawn card. */
+    private void updatePlayableRow() {
+        // A Wild Draw 4 card is played only if it matches the top card, or no card in the hand matches the colour
+        Card.Color color = gameSession.getCurrentColor();
+        CardCompatibility.playableRow(gameSession.getTopDiscardCode(), color, nonMatchColor(color), playableRow);
+    }
+
+    /**
+     * A factory of the computer players that fill the empty seats of a game.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        /**
+         * Creates a new computer player.
+         *
+         * @param id          player number as a suffix for the player ID
+         * @param gameSession the game room
+         * @param rng         the source of randomness for the decisions of the player
+         * @return the new computer player
+         */
+        ComputerPlayer create(int id, Game gameSession, SplittableRandom rng);
+    }
 }
@@ -0,0 +1,282 @@
+package ca.sheridancollege.project.player;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardCode;
+import ca.sheridancollege.project.card.CardCompatibility;
+import ca.sheridancollege.project.card.ZobristKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * <p>The {@code Hand} class represents the cards in the hand of a player.</p>
+ *
+ * <p>The cards are kept in the order they were added, with the number of cards per {@linkplain Card.Color colour}
+ * and per {@linkplain Card.Value value}, the total {@linkplain Card.Value#getPoints() points},
+ * the bit set of the held {@linkplain CardCode#index(short) card indexes}, and the Zobrist hash of the cards
+ * (see {@link ZobristKeys}).
+ * The colour and value of a card are taken from its {@linkplain Card#getCode() card code},
+ * so the Wild cards are counted as {@link CardCode#NO_COLOR} regardless of the declared colour.</p>
+ */
+public class Hand {
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    // The score points by the value ordinal
+    private static final int[] POINTS = Arrays.stream(Card.Value.values()).mapToInt(Card.Value::getPoints).toArray();
+
+    private final ArrayList<Card> cards;
+
+    // The number of cards per colour ordinal (the last element is for the Wild cards)
+    private final int[] colorCounts;
+
+    // The number of cards per value ordinal
+    private final int[] valueCounts;
+
+    // The bit set of the held card indexes
+    private final long[] heldCards;
+
+    // The total points of the cards
+    private int points;
+
+    // The number of cards per face, and the XOR of the keys of the cards
+    private final byte[] faceCounts;
+    private long hash;
+
+    /**
+     * Constructs an empty hand.
+     */
+    public Hand() {
+        cards = new ArrayList<>();
+        colorCounts = new int[CardCode.NO_COLOR + 1];
+        valueCounts = new int[Card.Value.values().length];
+        heldCards = new long[(CardCode.CLASSIC_CARDS + BITS_PER_WORD - 1) / BITS_PER_WORD];
+        faceCounts = new byte[1 << Byte.SIZE];
+    }
+
+    /**
+     * Constructs a hand containing the same cards as the specified hand.
+     *
+     * @param hand the hand whose cards are to be copied
+     */
+    public Hand(Hand hand) {
+        cards = new ArrayList<>(hand.cards);
+        colorCounts = hand.colorCounts.clone();
+        valueCounts = hand.valueCounts.clone();
+        heldCards = hand.heldCards.clone();
+        points = hand.points;
+        faceCounts = hand.faceCounts.clone();
+        hash = hand.hash;
+    }
+
+    /**
+     * Returns the card at the specified position in this hand.
+     *
+     * @param index index of the card to return
+     * @return the card at the specified position in this hand
+     * @see ArrayList#get(int)
+     */
+    public Card get(int index) {
+        return cards.get(index);
+    }
+
+    /**
+     * Returns the number of cards in this hand.
+     *
+     * @return the number of cards in this hand
+     */
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * Returns {@code true} if this hand contains no cards.
+     *
+     * @return {@code true} if this hand contains no cards, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+
+    /**
+     * Adds the card to this hand.
+     *
+     * @param card the card to add
+     */
+    public void add(Card card) {
+        cards.add(card);
+        count(card.getCode(), 1);
+    }
+
+    /**
+     * Adds all the cards in the specified collection to this hand.
+     *
+     * @param collection the collection containing the cards to add
+     */
+    public void addAll(Collection<Card> collection) {
+        for (Card card : collection) add(card);
+    }
+
+    /**
+     * Removes the card at the specified position in this hand.
+     *
+     * @param index the index of the card to remove
+     * @return the removed card
+     * @see ArrayList#remove(int)
+     */
+    public Card remove(int index) {
+        Card card = cards.remove(index);
+        count(card.getCode(), -1);
+
+        return card;
+    }
+
+    /**
+     * Removes all the cards from this hand.
+     */
+    public void clear() {
+        cards.clear();
+        Arrays.fill(colorCounts, 0);
+        Arrays.fill(valueCounts, 0);
+        Arrays.fill(heldCards, 0L);
+        points = 0;
+        Arrays.fill(faceCounts, (byte) 0);
+        hash = 0;
+    }
+
+    /**
+     * Returns the number of cards of the specified colour in this hand.
+     *
+     * @param color the colour of the cards, or {@code null} for the Wild cards
+     * @return the number of cards of the colour
+     */
+    public int countColor(Card.Color color) {
+        return colorCounts[color != null ? color.ordinal() : CardCode.NO_COLOR];
+    }
+
+    /**
+     * Returns the number of cards of the specified value in this hand.
+     *
+     * @param value the value of the cards
+     * @return the number of cards of the value
+     */
+    public int countValue(Card.Value value) {
+        return valueCounts[value.ordinal()];
+    }
+
+    /**
+     * Returns the total score points of the cards in this hand, which is kept up to date as the cards are added
+     * and removed.
+     *
+     * @return the total points of the cards
+     */
+    public int getPoints() {
+        return points;
+    }
+
+    /**
+     * Returns the Zobrist hash of the cards in this hand, which is kept up to date as the cards are added
+     * and removed. The hands of the same faces have the same hash, in any order and whichever copies they hold.
+     *
+     * @return the hash of the cards
+     * @see ZobristKeys#handCard(int, int)
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Returns {@code true} if this hand contains the card of the specified card code.
+     *
+     * @param code the card code
+     * @return {@code true} if this hand contains the card, otherwise {@code false}
+     */
+    public boolean contains(short code) {
+        int index = CardCode.index(code);
+        return index >= 0 && (heldCards[index / BITS_PER_WORD] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the position of the card of the specified card code in this hand.
+     *
+     * @param code the card code
+     * @return the index of the card, or {@code -1} if this hand does not contain the card
+     */
+    public int indexOf(short code) {
+        if (CardCode.index(code) >= 0 && !contains(code)) return -1;
+
+        int size = cards.size();
+        for (int i = 0; i < size; i++) {
+            if (cards.get(i).getCode() == code) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if this hand contains a card of the specified colour.
+     *
+     * @param color the colour of the card
+     * @return {@code true} if this hand contains a card of the colour, otherwise {@code false}
+     */
+    public boolean hasColor(Card.Color color) {
+        return color != null && colorCounts[color.ordinal()] > 0;
+    }
+
+    /**
+     * Returns {@code true} if this hand contains a card that can be played on the card of
+     * the specified colour and value, either by colour, number, or symbol. Alternatively, a Wild's card.
+     *
+     * @param color the colour of the card on the top of the Discard pile (the declared colour for Wild cards)
+     * @param value the value of the card on the top of the Discard pile
+     * @return {@code true} if this hand contains a playable card, otherwise {@code false}
+     */
+    public boolean hasPlayable(Card.Color color, Card.Value value) {
+        return hasColor(color) || valueCounts[value.ordinal()] > 0 || colorCounts[CardCode.NO_COLOR] > 0;
+    }
+
+    /**
+     * Returns {@code true} if this hand contains any of the cards in the specified row of bits.
+     *
+     * @param row the bits of the {@linkplain CardCode#index(short) card indexes},
+     *            e.g. a {@linkplain CardCompatibility#playableRow(short, Card.Color, boolean, long[]) playable row}
+     * @return {@code true} if this hand contains any of the cards, otherwise {@code false}
+     */
+    public boolean containsAny(long[] row) {
+        long any = 0;
+        for (int word = 0; word < heldCards.length; word++) any |= heldCards[word] & row[word];
+
+        return any != 0;
+    }
+
+    /**
+     * Returns {@code true} if a Wild Draw 4 card in this hand can be legally played on the specified colour,
+     * that is, this hand contains a Wild Draw 4 card and no card of the colour.
+     *
+     * @param color the colour of the card on the top of the Discard pile
+     * @return {@code true} if a Wild Draw 4 card can be legally played, otherwise {@code false}
+     */
+    public boolean canPlayWildDrawFour(Card.Color color) {
+        return valueCounts[Card.Value.WILD_DRAW_FOUR.ordinal()] > 0 && !hasColor(color);
+    }
+
+    private void count(short code, int delta) {
+        colorCounts[CardCode.colorOrdinal(code)] += delta;
+        valueCounts[CardCode.valueOrdinal(code)] += delta;
+        points += delta * POINTS[CardCode.valueOrdinal(code)];
+
+        // The key of the last identical card is added or removed
+        int face = CardCode.face(code);
+        int occurrence = delta > 0 ? faceCounts[face]++ : --faceCounts[face];
+        hash ^= ZobristKeys.handCard(face, occurrence);
+
+        int index = CardCode.index(code);
+        if (index < 0) return;
+
+        if (delta > 0) {
+            heldCards[index / BITS_PER_WORD] |= 1L << index;
+        } else {
+            heldCards[index / BITS_PER_WORD] &= ~(1L << index);
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package ca.sheridancollege.project.player;
 
 import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardCompatibility;
 import ca.sheridancollege.project.card.WildCard;
+import ca.sheridancollege.project.game.InputEvent;
 import ca.sheridancollege.project.util.Command;
 import ca.sheridancollege.project.util.Message;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * <p>The {@code HumanPlayer} class represents a human player.
  * Players have an identifier, which should be unique.</p>
+ *
+ * <p>A human player does not read any input by itself. The player shows a prompt and waits for the
+ * {@linkplain #handle(InputEvent) input events} that the game passes, moving from one prompt to the next
+ * until the turn is over.</p>
  * <br>
  *
  * <ul style="list-style-type: none">
@@ -18,6 +26,20 @@ import ca.sheridancollege.project.util.Message;
  * @author Makoto Sakaguchi, Feb 23, 2021
  */
 public class HumanPlayer extends Player {
+    private static final Card.Color[] COLORS = Card.Color.values();
+
+    // The prompt that this player waits for the input of
+    private State state = State.NONE;
+
+    // The card to play after choosing its colour or confirming it
+    private Card pendingCard;
+
+    // The decision on the Wild Draw 4 card played on this player
+    private CompletableFuture<Boolean> challengeDecision;
+
+    // The cards that can be played on this turn
+    private final long[] playableRow = new long[CardCompatibility.WORDS];
+
     /**
      * A constructor that allows to set the player's unique name.
      *
@@ -28,29 +50,97 @@ public class HumanPlayer extends Player {
     }
 
     @Override
-    public void play() {
+    public boolean play() {
+        if (!isPresent()) {
+            playAbsent();
+            return true;
+        }
+
         showHand();
+        promptCommand();
+
+        return false;
+    }
+
+    @Override
+    public boolean handle(InputEvent event) {
+        boolean inTurn = state != State.NONE && state != State.CHALLENGE;
+
+        if (event.getKind() == InputEvent.Kind.DISCONNECTED) {
+            finishAbsent();
+        } else {
+            switch (state) {
+                case COMMAND -> handleCommand(event);
+                case COLOR -> handleColor(event);
+                case CONFIRM -> handleConfirm(event);
+                case QUIT -> handleQuit(event);
+                case CHALLENGE -> handleChallenge(event);
+                default -> show(Message.getMessage("human.player.it.is.not.your.turn"));
+            }
+        }
 
-        gamePrompt();
+        return inTurn && state == State.NONE;
+    }
+
+    @Override
+    public boolean holdsPendingCard() {
+        return pendingCard != null;
     }
 
     @Override
     public void drawCard() {
-        Message.stdPrintln("human.player.take.a.card.from.the.draw.pile");
+        Card card = gameSession.draw(this);
 
-        Card card = gameSession.draw(getPlayerId());
+        show(Message.getMessage("human.player.take.a.card.from.the.draw.pile"));
+        state = State.NONE;
+        if (card == null) return;
 
-        if (gameSession.isPlayableCard(card)
-                && Command.confirmPrompt("human.player.is.playable.do.you.play.it", card)) {
-            gameSession.playCard(card);
+        if (isPresent() && gameSession.isPlayableCard(card)) {
+            pendingCard = card;
+            state = State.CONFIRM;
+            prompt(Command.confirmPrompt("human.player.is.playable.do.you.play.it", card));
         } else {
             addHand(card);
         }
     }
 
+    /**
+     * Returns the colour of the most cards in the hand.
+     * The colour of a Wild card is asked in advance on the turn of this player, so this is only for the first
+     * card of the Discard pile, and for a player who is absent.
+     *
+     * @return the colour of the most cards in the hand
+     */
     @Override
     public Card.Color chooseColor() {
-        return Command.showCardColorPrompt();
+        Card.Color color = COLORS[0];
+        for (Card.Color c : COLORS) {
+            if (handCards.countColor(c) > handCards.countColor(color)) color = c;
+        }
+
+        return color;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> challenge(Player challenged) {
+        if (!isPresent()) return CompletableFuture.completedFuture(false);
+
+        challengeDecision = new CompletableFuture<>();
+        state = State.CHALLENGE;
+        prompt(Command.confirmPrompt("human.player.do.you.challenge.it", challenged.getPlayerId()));
+
+        return challengeDecision;
+    }
+
+    /**
+     * Stops waiting for the answer to the challenge prompt, and tells this player if the time is over.
+     */
+    @Override
+    public void closeChallenge() {
+        if (state != State.CHALLENGE) return;
+
+        state = State.NONE;
+        show(Message.getMessage("human.player.the.challenge.window.is.over"));
     }
 
     /**
@@ -69,35 +159,81 @@ public class HumanPlayer extends Player {
      * Displays the playable cards of this player's hand on this turn.
      */
     protected void showPlayableCardList() {
-        Card discardCard = gameSession.getTopDiscardCard();
+        Card.Color color = gameSession.getCurrentColor();
+        CardCompatibility.playableRow(gameSession.getTopDiscardCode(), color, true, playableRow);
 
-        int count = 0;
+        // Have any playable cards?
+        if (!handCards.containsAny(playableRow)) {
+            show(Message.getMessage("human.player.you.have.no.playable.cards"));
+            return;
+        }
+
+        StringBuilder list = new StringBuilder();
         int size = handCards.size();
         for (int i = 0; i < size; i++) {
             Card card = handCards.get(i);
-            if (discardCard.matchCard(card) || card instanceof WildCard) {
-                System.out.println(i + ": " + card);
-                count++;
+            if (CardCompatibility.contains(playableRow, card.getCode())) {
+                if (list.length() > 0) list.append(System.lineSeparator());
+                list.append(i).append(": ").append(card);
             }
         }
+        show(list.toString());
+    }
 
-        // Have any playable cards?
-        if (count == 0) Message.stdPrintln("human.player.you.have.no.playable.cards");
+    /**
+     * Displays the line to this player, after the events of the game so far.
+     *
+     * @param line the line to display
+     */
+    protected void show(String line) {
+        gameSession.getView().showMessage(this, line);
     }
 
-    private void gamePrompt() {
-        String userInput = Command.showGamePrompt();
+    /**
+     * Displays the prompt to this player, after the events of the game so far.
+     *
+     * @param text the prompt to display
+     */
+    protected void prompt(String text) {
+        gameSession.getView().showPrompt(this, text);
+    }
 
-        char firstChar = userInput.charAt(0);
-        if (Character.isLetter(firstChar)) {
-            executeGameCommand(firstChar);
-        } else {
-            chooseCard(userInput);
+    /**
+     * Returns {@code true} if this player is present to answer the prompts.
+     * The prompts of an absent player are answered automatically.
+     *
+     * @return {@code true} if this player is present
+     */
+    protected boolean isPresent() {
+        return true;
+    }
+
+    /**
+     * Quits the game after the confirmation of this player. The game ends without a winner.
+     */
+    protected void quit() {
+        state = State.NONE;
+        gameSession.quit(this);
+    }
+
+    private void promptCommand() {
+        state = State.COMMAND;
+        prompt(Command.gamePrompt());
+    }
+
+    private void handleCommand(InputEvent event) {
+        switch (event.getKind()) {
+            case NUMBER -> chooseCard(event.getNumber());
+            case COMMAND -> executeGameCommand(event.getCommand());
+            default -> {
+                show(Message.getMessage("error.unknown.command.please.enter.again"));
+                promptCommand();
+            }
         }
     }
 
-    private void executeGameCommand(char firstChar) {
-        switch (Command.Game.valueOf(firstChar)) {
+    private void executeGameCommand(Command.Game command) {
+        switch (command) {
             case SHOW_HAND -> showHand();
             case SHOW_PLAYABLE_CARDS -> showPlayableCardList();
             case UNO -> callUno();
@@ -105,33 +241,141 @@ public class HumanPlayer extends Player {
                 drawCard();
                 return;
             }
-            case QUIT -> Command.exit("are.you.sure.you.want.to.quit.this.game.and.exit.the.program");
-            default -> Message.stdPrintln("error.unknown.command.please.enter.again");
+            case QUIT -> {
+                state = State.QUIT;
+                prompt(Command.confirmPrompt("are.you.sure.you.want.to.quit.this.game.and.exit.the.program"));
+                return;
+            }
+            default -> show(Message.getMessage("error.unknown.command.please.enter.again"));
         }
 
-        gamePrompt();
+        promptCommand();
     }
 
-    private void chooseCard(String cardIndex) {
-        try {
-            int index = Integer.parseInt(cardIndex);
-            if (!gameSession.isPlayableCard(handCards.get(index))) {
-                Command.showUnplayableCardMessage();
-                gamePrompt();
-                return;
-            }
+    private void chooseCard(int index) {
+        if (index >= handCards.size()) {
+            show(Message.format("error.human.player.no.such.card", index));
+            promptCommand();
+            return;
+        }
+
+        if (!gameSession.isPlayableCard(handCards.get(index))) {
+            show(Message.format("error.human.player.unplayable.card", Command.Game.SHOW_PLAYABLE_CARDS.getCommand()));
+            promptCommand();
+            return;
+        }
 
-            // Auto UNO call
-            callUno();
+        // Auto UNO call
+        callUno();
 
-            // Take a card.
-            Card card = handCards.remove(index);
-            if (card instanceof WildCard) ((WildCard) card).setColor(chooseColor());
+        playChosenCard(handCards.remove(index));
+    }
 
+    /* Plays the card, or asks for the colour of a Wild card first. */
+    private void playChosenCard(Card card) {
+        if (card instanceof WildCard) {
+            pendingCard = card;
+            state = State.COLOR;
+            prompt(Command.colorPrompt());
+        } else {
+            state = State.NONE;
             gameSession.playCard(card);
-        } catch (NumberFormatException | IndexOutOfBoundsException e) {
-            System.err.println(e.getLocalizedMessage());
-            gamePrompt();
         }
     }
+
+    private void handleColor(InputEvent event) {
+        if (event.getKind() != InputEvent.Kind.NUMBER) {
+            show(Message.getMessage("error.command.color.invalid.input.please.enter.a.number.between.0.and.3"));
+        } else if (event.getNumber() >= COLORS.length) {
+            show(Message.format("error.command.color.index.is.out.of.the.colour.number", event.getNumber()));
+        } else {
+            playPendingCard(COLORS[event.getNumber()]);
+            return;
+        }
+
+        prompt(Command.colorPrompt());
+    }
+
+    private void handleConfirm(InputEvent event) {
+        Card card = pendingCard;
+        pendingCard = null;
+
+        if (event.getKind() == InputEvent.Kind.YES) {
+            playChosenCard(card);
+        } else {
+            state = State.NONE;
+            addHand(card);
+        }
+    }
+
+    private void handleQuit(InputEvent event) {
+        if (event.getKind() == InputEvent.Kind.YES) {
+            quit();
+        } else {
+            promptCommand();
+        }
+    }
+
+    private void handleChallenge(InputEvent event) {
+        state = State.NONE;
+
+        // The challenge window may be over
+        if (!challengeDecision.complete(event.getKind() == InputEvent.Kind.YES)) {
+            show(Message.getMessage("human.player.it.is.not.your.turn"));
+        }
+    }
+
+    private void playPendingCard(Card.Color color) {
+        Card card = pendingCard;
+        pendingCard = null;
+        state = State.NONE;
+
+        gameSession.playCard(card, color);
+    }
+
+    /* Plays the first playable card, or draws a card, when this player is absent. */
+    private void playAbsent() {
+        state = State.NONE;
+
+        int size = handCards.size();
+        for (int i = 0; i < size; i++) {
+            if (gameSession.isPlayableCard(handCards.get(i))) {
+                callUno();
+
+                Card card = handCards.remove(i);
+                gameSession.playCard(card, card instanceof WildCard ? chooseColor() : null);
+                return;
+            }
+        }
+
+        drawCard();
+    }
+
+    /* Answers the prompt that this player waits for, when this player is absent. */
+    private void finishAbsent() {
+        switch (state) {
+            case COMMAND, QUIT -> playAbsent();
+            case COLOR -> playPendingCard(chooseColor());
+            case CONFIRM -> {
+                state = State.NONE;
+                addHand(pendingCard);
+                pendingCard = null;
+            }
+            case CHALLENGE -> {
+                state = State.NONE;
+                challengeDecision.complete(false);
+            }
+            default -> { }
+        }
+    }
+
+    /* The prompts of a human player */
+    private enum State {
+        NONE,
+        COMMAND,
+        COLOR,
+        CONFIRM,
+        QUIT,
+        CHALLENGE
+    }
 }
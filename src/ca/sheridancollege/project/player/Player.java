@@ -1,12 +1,14 @@
 package ca.sheridancollege.project.player;
 
 import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardCode;
 import ca.sheridancollege.project.game.Game;
-import ca.sheridancollege.project.util.Message;
+import ca.sheridancollege.project.game.InputEvent;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p>A class that models each player in the Uno game.
@@ -23,7 +25,7 @@ import java.util.Objects;
  */
 public abstract class Player implements Comparable<Player> {
     // Hand of the player
-    protected final LinkedList<Card> handCards;
+    protected final Hand handCards;
 
     // The currently joined game room (session)
     protected Game gameSession = null;
@@ -46,7 +48,7 @@ public abstract class Player implements Comparable<Player> {
         }
 
         playerId = name.strip();
-        handCards = new LinkedList<>();
+        handCards = new Hand();
     }
 
     /**
@@ -101,7 +103,7 @@ public abstract class Player implements Comparable<Player> {
      * Initializes the hand with dealt cards.
      *
      * @param cards the collection containing {@code Card} to be added to the hand.
-     * @see LinkedList#addAll(Collection)
+     * @see Hand#addAll(Collection)
      */
     public void initHand(Collection<Card> cards) {
         handCards.clear();
@@ -110,11 +112,66 @@ public abstract class Player implements Comparable<Player> {
         handCards.addAll(cards);
     }
 
+    /**
+     * Writes the hand and the UNO call of this player to the buffer, as a part of a
+     * {@linkplain Game#writeSnapshot(ByteBuffer) game snapshot}: {@code 1} if this player yelled "UNO"
+     * ({@code byte}), the number of cards in the hand ({@code short}), and the card codes in the hand.
+     *
+     * @param buffer the buffer to write the state to
+     */
+    public void writeState(ByteBuffer buffer) {
+        buffer.put((byte) (calledUno ? 1 : 0));
+
+        int size = handCards.size();
+        buffer.putShort((short) size);
+        for (int i = 0; i < size; i++) buffer.putShort(handCards.get(i).getCode());
+    }
+
+    /**
+     * Restores the hand and the UNO call of this player from the state {@linkplain #writeState(ByteBuffer) written}
+     * in the buffer.
+     *
+     * @param buffer the buffer to read the state from
+     */
+    public void restoreState(ByteBuffer buffer) {
+        handCards.clear();
+        calledUno = buffer.get() != 0;
+
+        int size = buffer.getShort();
+        for (int i = 0; i < size; i++) handCards.add(CardCode.toCard(buffer.getShort()));
+    }
+
+    /**
+     * Reads the state {@linkplain #writeState(ByteBuffer) written} in the buffer without restoring it, and checks
+     * that it can be restored.
+     *
+     * @param buffer the buffer to read the state from
+     * @return the card codes in the hand of the state
+     * @throws IllegalArgumentException if the number of cards or a card code in the hand is invalid
+     */
+    public static short[] checkState(ByteBuffer buffer) {
+        buffer.get();
+
+        int size = buffer.getShort();
+        if (size < 0 || size > CardCode.CLASSIC_CARDS) {
+            throw new IllegalArgumentException("Invalid number of cards in the hand: " + size);
+        }
+        short[] codes = new short[size];
+        for (int i = 0; i < size; i++) {
+            codes[i] = buffer.getShort();
+            if (!CardCode.isClassic(codes[i])) {
+                throw new IllegalArgumentException("Invalid card code in the hand: " + codes[i]);
+            }
+        }
+
+        return codes;
+    }
+
     /**
      * Adds the card to this player's hand.
      *
      * @param card the card to add to the hand.
-     * @see LinkedList#add(Object)
+     * @see Hand#add(Card)
      */
     public void addHand(Card card) {
         handCards.add(card);
@@ -125,12 +182,43 @@ public abstract class Player implements Comparable<Player> {
      * Returns the number of cards in this hand.
      *
      * @return the number of cards in this hand.
-     * @see LinkedList#size()
+     * @see Hand#size()
      */
     public int handSize() {
         return handCards.size();
     }
 
+    /**
+     * Returns the total score points of the cards in this hand.
+     *
+     * @return the total points of the cards in this hand.
+     * @see Hand#getPoints()
+     */
+    public int handPoints() {
+        return handCards.getPoints();
+    }
+
+    /**
+     * Returns the Zobrist hash of the cards in this hand.
+     *
+     * @return the hash of the cards in this hand.
+     * @see Hand#getHash()
+     */
+    public long handHash() {
+        return handCards.getHash();
+    }
+
+    /**
+     * Returns the card at the specified position in this hand.
+     *
+     * @param index index of the card to return
+     * @return the card at the specified position in this hand
+     * @see Hand#get(int)
+     */
+    public Card getHandCard(int index) {
+        return handCards.get(index);
+    }
+
     /**
      * Returns {@code true} if this player yells "UNO" when playing their next-to-last card.
      *
@@ -158,11 +246,7 @@ public abstract class Player implements Comparable<Player> {
      * @return {@code true} if this player have a card in the hand, otherwise {@code false}
      */
     public boolean hasMatchingColor(Card.Color discCardColor) {
-        for (Card c : handCards) {
-            if (c.getColor() == discCardColor) return true;
-        }
-
-        return false;
+        return handCards.hasColor(discCardColor);
     }
 
     /**
@@ -173,11 +257,19 @@ public abstract class Player implements Comparable<Player> {
      * @return {@code true} if this player does NOT have a card in the hand, otherwise {@code false}
      */
     public boolean nonMatchColor(Card.Color discCardColor) {
-        for (Card card : handCards) {
-            if (card.getColor() == discCardColor) return false;
-        }
+        return !handCards.hasColor(discCardColor);
+    }
 
-        return true;
+    /**
+     * Returns {@code true} if this player have a card in the hand that can be played on the card of
+     * the specified colour and value.
+     *
+     * @param color the colour to match (the declared colour for Wild cards)
+     * @param value the value of the card on the top of the Discard pile
+     * @return {@code true} if this player have a playable card in the hand, otherwise {@code false}
+     */
+    public boolean hasPlayableCard(Card.Color color, Card.Value value) {
+        return handCards.hasPlayable(color, value);
     }
 
     /**
@@ -185,8 +277,34 @@ public abstract class Player implements Comparable<Player> {
      *
      * <p>Player must match a card from their hand to the card, either by number, color or symbol.
      * Alternatively, the player can put down a Wild's card.
+     *
+     * <p>A player who needs input (e.g. a human player) prompts for it and returns {@code false};
+     * the turn then goes on with the {@linkplain #handle(InputEvent) input events} of the player.
+     *
+     * @return {@code true} if the turn is over, or {@code false} if the player waits for input
+     */
+    public abstract boolean play();
+
+    /**
+     * Handles the input event of this player. The events are passed by the game, one at a time.
+     * By default, the input is ignored.
+     *
+     * @param event the input event of this player
+     * @return {@code true} if the event finished the turn of this player, otherwise {@code false}
      */
-    public abstract void play();
+    public boolean handle(InputEvent event) {
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if this player holds a card that is neither in the hand nor in the piles, e.g. while
+     * choosing the colour of a Wild card. By default, a player never holds such a card.
+     *
+     * @return {@code true} if this player holds a card outside the hand, otherwise {@code false}
+     */
+    public boolean holdsPendingCard() {
+        return false;
+    }
 
     /**
      * Draws the top card of the Draw pile.
@@ -200,13 +318,30 @@ public abstract class Player implements Comparable<Player> {
      */
     public abstract Card.Color chooseColor();
 
+    /**
+     * Decides whether to challenge the Wild Draw 4 card that the specified player played on this player.
+     *
+     * <p>The decision may be completed later (e.g. by the input of a remote player). The game does not wait
+     * longer than the {@linkplain Game#CHALLENGE_WINDOW_MILLIS challenge window}, and then takes it as no challenge.
+     *
+     * @param challenged the player who played the Wild Draw 4 card
+     * @return the future decision; {@code true} to challenge the player
+     */
+    public abstract CompletableFuture<Boolean> challenge(Player challenged);
+
+    /**
+     * Closes the challenge window that {@link #challenge(Player)} opened, after the decision is made or the time is
+     * over. It is called on the thread that plays the game. By default, nothing is done.
+     */
+    public void closeChallenge() { }
+
     /**
      * Yells “UNO” (meaning “one”) when playing the next-to-last card.
      */
     public void callUno() {
         if (handCards.size() == 2 && !calledUno) {
             calledUno = true;
-            System.out.println("\033[0;1mUNO!\033[0;0m");
+            gameSession.getView().showUno(this);
         }
     }
 
@@ -214,11 +349,7 @@ public abstract class Player implements Comparable<Player> {
      * Displays the current hand.
      */
     public void showHand() {
-        Message.stdPrintf("player.player.hand", playerId);
-        for (int i = 0; i < handCards.size(); i++) {
-            System.out.println(i + ": " + handCards.get(i));
-        }
-        System.out.println();
+        gameSession.getView().showHand(this);
     }
 
     @Override
@@ -0,0 +1,132 @@
+package ca.sheridancollege.project.replay;
+
+import ca.sheridancollege.project.journal.JournalReader;
+import ca.sheridancollege.project.journal.JournalRecord;
+
+import java.util.Arrays;
+
+/**
+ * <p>The {@code GameReplay} class replays a recorded game turn by turn from its journal records.</p>
+ *
+ * <p>While the records are loaded, a copy of the state (keyframe) is kept every {@link #KEYFRAME_INTERVAL} turns,
+ * so {@linkplain #seek(int) seeking} to any turn applies at most the records of that many turns
+ * from the nearest keyframe, instead of replaying the game from the deal.</p>
+ */
+public class GameReplay {
+    /**
+     * The number of turns between the keyframes is {@value}.
+     */
+    public static final int KEYFRAME_INTERVAL = 64;
+
+    private static final int INITIAL_RECORDS = 1024;
+
+    // The records of the game from the START record
+    private final long[] records;
+
+    // The keyframes: the state before the TURN record of every KEYFRAME_INTERVAL turns, and the index of the record
+    private final ReplayState[] keyframes;
+    private final int[] keyframeRecords;
+
+    private final ReplayState finalState;
+
+    private GameReplay(long[] records) {
+        this.records = records;
+
+        ReplayState state = new ReplayState();
+        ReplayState[] states = new ReplayState[records.length / INITIAL_RECORDS + 1];
+        int[] indexes = new int[states.length];
+        int count = 0;
+
+        for (int i = 0; i < records.length; i++) {
+            long record = records[i];
+            if (JournalRecord.type(record) == JournalRecord.Type.TURN
+                    && JournalRecord.arg(record) % KEYFRAME_INTERVAL == 0) {
+                if (count == states.length) {
+                    states = Arrays.copyOf(states, count * 2);
+                    indexes = Arrays.copyOf(indexes, count * 2);
+                }
+                states[count] = new ReplayState(state);
+                indexes[count++] = i;
+            }
+
+            state.apply(record);
+        }
+
+        keyframes = Arrays.copyOf(states, count);
+        keyframeRecords = Arrays.copyOf(indexes, count);
+        finalState = state;
+    }
+
+    /**
+     * Reads the records of the next game from the specified journal.
+     * The records before the START record of the game are skipped.
+     *
+     * @param reader the journal reader
+     * @return the replay of the next game, or {@code null} if no games are left
+     */
+    public static GameReplay read(JournalReader reader) {
+        while (reader.hasNext() && JournalRecord.type(reader.peek()) != JournalRecord.Type.START) reader.next();
+        if (!reader.hasNext()) return null;
+
+        long[] records = new long[INITIAL_RECORDS];
+        int size = 0;
+        do {
+            if (size == records.length) records = Arrays.copyOf(records, size * 2);
+            records[size++] = reader.next();
+
+            // The game ends at the WIN record, or at the next game if the game was not finished
+        } while (JournalRecord.type(records[size - 1]) != JournalRecord.Type.WIN
+                     && reader.hasNext() && JournalRecord.type(reader.peek()) != JournalRecord.Type.START);
+
+        return new GameReplay(Arrays.copyOf(records, size));
+    }
+
+    /**
+     * Returns the number of records of the game.
+     *
+     * @return the number of records
+     */
+    public int getRecordCount() {
+        return records.length;
+    }
+
+    /**
+     * Returns the number of turns of the game.
+     *
+     * @return the number of turns played
+     */
+    public int getTurns() {
+        return finalState.getTurn();
+    }
+
+    /**
+     * Returns the state at the end of the game.
+     *
+     * @return a copy of the last state
+     */
+    public ReplayState getFinalState() {
+        return new ReplayState(finalState);
+    }
+
+    /**
+     * Returns the state at the beginning of the specified turn, just before the player plays the turn.
+     *
+     * @param turn the number of the turn from {@code 0}
+     * @return a new state at the beginning of the turn, or at the end of the game if the game has fewer turns
+     */
+    public ReplayState seek(int turn) {
+        if (turn < 0) throw new IllegalArgumentException("The turn must NOT be negative.");
+        if (keyframes.length == 0) return getFinalState();
+
+        int keyframe = Math.min(turn / KEYFRAME_INTERVAL, keyframes.length - 1);
+        ReplayState state = new ReplayState(keyframes[keyframe]);
+        for (int i = keyframeRecords[keyframe]; i < records.length; i++) {
+            long record = records[i];
+            state.apply(record);
+
+            if (JournalRecord.type(record) == JournalRecord.Type.TURN && JournalRecord.arg(record) == turn) break;
+        }
+
+        return state;
+    }
+}
@@ -0,0 +1,80 @@
+package ca.sheridancollege.project.replay;
+
+import ca.sheridancollege.project.journal.JournalReader;
+import ca.sheridancollege.project.journal.JournalRecord;
+import ca.sheridancollege.project.util.Message;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The {@code Replay} class replays the recorded games of a journal without any player input.
+ *
+ * <p>Usage: {@code Replay <journal directory> <journal name> [game] [turn]}
+ *
+ * <p>Without the game number, all the games are replayed as fast as possible (throughput mode) by applying
+ * the records to a single state, and the games whose winner still holds cards are counted.
+ * With the game number and turn, the state at the beginning of the turn of the game is displayed.</p>
+ */
+public class Replay {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(args[0]);
+        String name = args[1];
+
+        try (JournalReader reader = new JournalReader(directory, name)) {
+            if (args.length > 3) {
+                showTurn(reader, Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+            } else {
+                replayAll(reader);
+            }
+        }
+    }
+
+    /**
+     * Replays all the games in the specified journal.
+     *
+     * @param reader the journal reader
+     */
+    public static void replayAll(JournalReader reader) {
+        ReplayState state = new ReplayState();
+        long games = 0;
+        long records = 0;
+        long inconsistent = 0;
+
+        long start = System.nanoTime();
+        while (reader.hasNext()) {
+            long record = reader.next();
+            state.apply(record);
+            records++;
+
+            if (JournalRecord.type(record) == JournalRecord.Type.WIN) {
+                games++;
+                if (!state.getHand(state.getWinner()).isEmpty()) inconsistent++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+        Message.stdPrintf("replay.result", games, records, seconds, games / seconds);
+        if (inconsistent > 0) Message.stdPrintf("replay.result.inconsistent", inconsistent);
+    }
+
+    private static void showTurn(JournalReader reader, int game, int turn) {
+        GameReplay replay = null;
+        for (int i = 0; i <= game; i++) {
+            replay = GameReplay.read(reader);
+            if (replay == null) return;
+        }
+
+        long start = System.nanoTime();
+        ReplayState state = replay.seek(turn);
+        long nanos = System.nanoTime() - start;
+
+        int[] handSizes = new int[state.getPlayers()];
+        for (int seat = 0; seat < handSizes.length; seat++) handSizes[seat] = state.getHand(seat).size();
+        Message.stdPrintf("replay.seek", state.getTurn(), Arrays.toString(handSizes), state.getTopDiscardCard(),
+            nanos);
+    }
+}
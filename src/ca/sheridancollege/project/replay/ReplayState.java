@@ -0,0 +1,227 @@
+package ca.sheridancollege.project.replay;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardCode;
+import ca.sheridancollege.project.journal.JournalRecord;
+import ca.sheridancollege.project.player.Hand;
+
+/**
+ * <p>The {@code ReplayState} class represents the state of a recorded game rebuilt from its journal records:
+ * the hand of each seat, the Discard pile, the number of cards in the Draw pile, and whose turn it is.</p>
+ *
+ * <p>The records are {@linkplain #apply(long) applied} one by one without any player input.
+ * The order of the Draw pile is not recorded, because the drawn cards are recorded by their card codes.</p>
+ */
+public class ReplayState {
+    private static final Card.Color[] COLORS = Card.Color.values();
+
+    private Hand[] hands;
+    private int players;
+
+    // The card codes of the Discard pile (the last element is the top)
+    private final short[] discardPile;
+    private int discardSize;
+
+    private Card.Color declaredColor;
+    private int drawPileSize;
+
+    private int currentSeat;
+    private boolean left;
+    private int turn;
+    private int winner;
+
+    /**
+     * Constructs an empty state before the start of a game.
+     */
+    public ReplayState() {
+        hands = new Hand[0];
+        discardPile = new short[CardCode.CLASSIC_CARDS];
+        winner = JournalRecord.NO_SEAT;
+    }
+
+    /**
+     * Constructs a copy of the specified state.
+     *
+     * @param state the state to copy
+     */
+    public ReplayState(ReplayState state) {
+        hands = new Hand[state.hands.length];
+        for (int i = 0; i < hands.length; i++) hands[i] = new Hand(state.hands[i]);
+        players = state.players;
+
+        discardPile = state.discardPile.clone();
+        discardSize = state.discardSize;
+
+        declaredColor = state.declaredColor;
+        drawPileSize = state.drawPileSize;
+
+        currentSeat = state.currentSeat;
+        left = state.left;
+        turn = state.turn;
+        winner = state.winner;
+    }
+
+    /**
+     * Applies the specified journal record to this state.
+     *
+     * @param record the written journal record
+     */
+    public void apply(long record) {
+        int seat = JournalRecord.seat(record);
+        short code = JournalRecord.code(record);
+
+        switch (JournalRecord.type(record)) {
+            case START -> start(seat, JournalRecord.arg(record));
+            case DEAL, DRAW -> {
+                hands[seat].add(CardCode.toCard(code));
+                drawPileSize--;
+            }
+            case FLIP -> {
+                discardPile[discardSize++] = code;
+                drawPileSize--;
+            }
+            case TURN -> {
+                currentSeat = seat;
+                turn = JournalRecord.arg(record);
+            }
+            case PLAY -> {
+                Hand hand = hands[seat];
+                hand.remove(hand.indexOf(code));
+                discardPile[discardSize++] = code;
+                declaredColor = null;
+            }
+            case COLOR -> declaredColor = COLORS[JournalRecord.arg(record)];
+            case REVERSE -> left = !left;
+            case RECYCLE -> {
+                discardPile[0] = discardPile[discardSize - 1];
+                discardSize = 1;
+                drawPileSize += JournalRecord.arg(record);
+            }
+            case WIN -> {
+                winner = seat;
+                turn = JournalRecord.arg(record);
+            }
+            default -> { }
+        }
+    }
+
+    /**
+     * Returns the number of players in the game.
+     *
+     * @return the number of players
+     */
+    public int getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the hand of the player in the specified seat.
+     *
+     * @param seat the seat number
+     * @return the hand of the player
+     */
+    public Hand getHand(int seat) {
+        return hands[seat];
+    }
+
+    /**
+     * Returns the card on the top of the Discard pile.
+     *
+     * @return the card on the top of the Discard pile, or {@code null} before the first card is turned up
+     */
+    public Card getTopDiscardCard() {
+        return discardSize > 0 ? CardCode.toCard(discardPile[discardSize - 1]) : null;
+    }
+
+    /**
+     * Returns the colour that the next card must match.
+     *
+     * @return the declared colour if the top of the Discard pile is a Wild card, otherwise its colour
+     */
+    public Card.Color getCurrentColor() {
+        return declaredColor != null ? declaredColor : CardCode.color(discardPile[discardSize - 1]);
+    }
+
+    /**
+     * Returns the number of cards in the Discard pile.
+     *
+     * @return the number of cards in the Discard pile
+     */
+    public int getDiscardPileSize() {
+        return discardSize;
+    }
+
+    /**
+     * Returns the number of cards in the Draw pile.
+     *
+     * @return the number of cards in the Draw pile
+     */
+    public int getDrawPileSize() {
+        return drawPileSize;
+    }
+
+    /**
+     * Returns the seat number of the player whose turn it is.
+     *
+     * @return the current seat number
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Returns {@code true} if play is currently to the left.
+     *
+     * @return {@code true} if play is to the left, {@code false} if play is to the right
+     */
+    public boolean isLeft() {
+        return left;
+    }
+
+    /**
+     * Returns the number of the current turn, or the number of turns if the game is finished.
+     *
+     * @return the number of the turn
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Returns the seat number of the winner.
+     *
+     * @return the seat number of the winner, or {@link JournalRecord#NO_SEAT} if the game is not finished
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Returns {@code true} if the game is finished.
+     *
+     * @return {@code true} if the game is finished, otherwise {@code false}
+     */
+    public boolean isFinished() {
+        return winner != JournalRecord.NO_SEAT;
+    }
+
+    private void start(int players, int firstSeat) {
+        if (hands.length < players) {
+            Hand[] newHands = new Hand[players];
+            System.arraycopy(hands, 0, newHands, 0, hands.length);
+            for (int i = hands.length; i < players; i++) newHands[i] = new Hand();
+            hands = newHands;
+        }
+        for (int i = 0; i < players; i++) hands[i].clear();
+        this.players = players;
+
+        discardSize = 0;
+        declaredColor = null;
+        drawPileSize = CardCode.CLASSIC_CARDS;
+
+        currentSeat = firstSeat;
+        left = true;
+        turn = 0;
+        winner = JournalRecord.NO_SEAT;
+    }
+}
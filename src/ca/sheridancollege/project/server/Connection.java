@@ -0,0 +1,146 @@
+package ca.sheridancollege.project.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * <p>The {@code Connection} class represents a client connected to the {@link GameServer}.</p>
+ *
+ * <p>The input is split into UTF-8 lines on the selector thread. The output is queued by any thread
+ * and written by the selector thread when the channel is writable. A client that does not read its output is
+ * dropped when the queued output exceeds {@value #MAX_QUEUED_BYTES} bytes.</p>
+ */
+final class Connection {
+    // The maximum length of an input line in bytes
+    private static final int MAX_LINE_BYTES = 1024;
+
+    // The maximum number of bytes of the output waiting to be written
+    private static final int MAX_QUEUED_BYTES = 256 * 1024;
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final GameServer server;
+    private final SocketChannel channel;
+    private SelectionKey key;
+
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(MAX_LINE_BYTES);
+    private final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedBytes = new AtomicInteger();
+
+    // The player and the room of this connection (accessed only by the selector thread)
+    private RemotePlayer player;
+    private ServerRoom room;
+
+    Connection(GameServer server, SocketChannel channel) {
+        this.server = server;
+        this.channel = channel;
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    RemotePlayer getPlayer() {
+        return player;
+    }
+
+    ServerRoom getRoom() {
+        return room;
+    }
+
+    void setRoom(ServerRoom room, RemotePlayer player) {
+        this.room = room;
+        this.player = player;
+    }
+
+    /*
+     * Queues the text as a line to send to the client. It may be called by any thread.
+     * The connection is dropped instead if the client has not read too much of its output.
+     */
+    void send(String text) {
+        if (!channel.isOpen()) return;
+
+        String line = text.endsWith("\n") ? text : text + "\n";
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        if (queuedBytes.addAndGet(bytes.length) > MAX_QUEUED_BYTES) {
+            server.drop(this);
+            return;
+        }
+
+        writeQueue.add(ByteBuffer.wrap(bytes));
+        server.requestWrite(this);
+    }
+
+    /*
+     * Reads the input and passes each complete line to the handler, until the handler closes this connection.
+     * Returns false if the connection is closed, or the client sent a line that is too long.
+     */
+    boolean read(Consumer<String> lineHandler) throws IOException {
+        if (channel.read(readBuffer) < 0) return false;
+
+        readBuffer.flip();
+        int lineStart = 0;
+        int limit = readBuffer.limit();
+        for (int i = 0; i < limit; i++) {
+            if (readBuffer.get(i) != LINE_FEED) continue;
+
+            int lineEnd = i > lineStart && readBuffer.get(i - 1) == CARRIAGE_RETURN ? i - 1 : i;
+            byte[] bytes = new byte[lineEnd - lineStart];
+            readBuffer.get(lineStart, bytes);
+            lineHandler.accept(new String(bytes, StandardCharsets.UTF_8).strip());
+
+            // The rest of the input is discarded after QUIT
+            if (!channel.isOpen()) return false;
+
+            lineStart = i + 1;
+        }
+        readBuffer.position(lineStart);
+        readBuffer.compact();
+
+        // No line separator in the full buffer
+        return readBuffer.hasRemaining();
+    }
+
+    /* Writes the queued output. Returns true if all the output is written. */
+    boolean write() throws IOException {
+        ByteBuffer buffer;
+        while ((buffer = writeQueue.peek()) != null) {
+            channel.write(buffer);
+            if (buffer.hasRemaining()) return false;
+
+            writeQueue.poll();
+            queuedBytes.addAndGet(-buffer.limit());
+        }
+
+        return true;
+    }
+
+    boolean hasPendingOutput() {
+        return !writeQueue.isEmpty();
+    }
+
+    boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    void close() {
+        writeQueue.clear();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // The connection is closed anyway
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package ca.sheridancollege.project.server;
+
+import ca.sheridancollege.project.game.GameRoom;
+import ca.sheridancollege.project.game.Leaderboard;
+import ca.sheridancollege.project.game.Lobby;
+import ca.sheridancollege.project.metrics.GameMetrics;
+import ca.sheridancollege.project.metrics.MetricsEndpoint;
+import ca.sheridancollege.project.player.Player;
+import ca.sheridancollege.project.util.Message;
+
+import javax.management.JMException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.file.Path;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>The {@code GameServer} class hosts many game rooms for remote players over TCP.</p>
+ *
+ * <p>All the connections are served by a single selector thread with non-blocking channels.
+ * The protocol is UTF-8 text lines, so a client can be a plain terminal (e.g. {@code nc localhost 17796}).
+ * Outside a game, a client sends the lobby commands:</p>
+ *
+ * <ul>
+ * <li>{@code JOIN <room> <name>}: joins (or creates) the room with the player name</li>
+ * <li>{@code PLAY <name>}: joins a room with a free seat (or a new room) with the player name</li>
+ * <li>{@code START [players]}: starts a game in the room, filling the empty seats with computer players</li>
+ * <li>{@code MATCH [players]}: starts a match of rounds to 500 points in the room</li>
+ * <li>{@code RANKING}: shows the top players of the matches on this server</li>
+ * <li>{@code LEAVE}: leaves the room</li>
+ * <li>{@code QUIT}: closes the connection (also during a game)</li>
+ * </ul>
+ *
+ * <p>During a game, the input lines are posted to the game as the answers to the prompts of the
+ * {@link RemotePlayer}. Each game is played on the executor of this server only while it has something to do,
+ * so a room waiting for input holds no thread.</p>
+ *
+ * <p>The {@linkplain GameMetrics metrics} of the games are registered in JMX, and also served as text on the
+ * metrics port if specified.</p>
+ *
+ * <p>The games in each room are recorded in the journal of the room in the journal directory, which can be
+ * replayed by {@link ca.sheridancollege.project.replay.Replay}.</p>
+ *
+ * <p>Usage: {@code GameServer [port] [metrics port|-] [journal directory]}
+ */
+public class GameServer implements Runnable, Closeable {
+    /**
+     * The default port number is {@value}.
+     */
+    public static final int DEFAULT_PORT = 17796;
+
+    /**
+     * The default directory of the journals of the rooms.
+     */
+    public static final Path DEFAULT_JOURNAL_DIRECTORY = Path.of("journal");
+
+    // The argument for no metrics port
+    private static final String NO_METRICS = "-";
+
+    private static final String QUIT = "QUIT";
+
+    // The number of the players shown in the ranking
+    private static final int RANKING_SIZE = 10;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService gameExecutor;
+
+    // The connections that have output to write, and the tasks to run on the selector thread
+    private final Queue<Connection> writeRequests = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    // The results of the matches in all the rooms
+    private final Leaderboard leaderboard = new Leaderboard();
+
+    // The rooms and the players in them
+    private final Lobby<ServerRoom> lobby;
+
+    /**
+     * Opens a server bound to the specified address, which does not record the games.
+     *
+     * @param address the address to bind, or the port {@code 0} for an ephemeral port
+     * @throws IOException if an I/O error occurs while opening the server
+     */
+    public GameServer(InetSocketAddress address) throws IOException {
+        this(address, null);
+    }
+
+    /**
+     * Opens a server bound to the specified address, which records the games of each room in its journal
+     * in the specified directory.
+     *
+     * @param address          the address to bind, or the port {@code 0} for an ephemeral port
+     * @param journalDirectory the directory of the journals of the rooms, or {@code null} not to record the games
+     * @throws IOException if an I/O error occurs while opening the server
+     */
+    public GameServer(InetSocketAddress address, Path journalDirectory) throws IOException {
+        lobby = new Lobby<>(name -> new ServerRoom(name, leaderboard, journalDirectory));
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        gameExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "uno-game");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static void main(String[] args) throws IOException, JMException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameMetrics.getDefault().registerMBean();
+
+        MetricsEndpoint endpoint = null;
+        if (args.length > 1 && !args[1].equals(NO_METRICS)) {
+            endpoint = new MetricsEndpoint(new InetSocketAddress(Integer.parseInt(args[1])), GameMetrics.getDefault());
+            Message.stdPrintf("server.metrics.listening", endpoint.getPort(), MetricsEndpoint.PATH);
+        }
+
+        Path journalDirectory = args.length > 2 ? Path.of(args[2]) : DEFAULT_JOURNAL_DIRECTORY;
+        try (GameServer server = new GameServer(new InetSocketAddress(port), journalDirectory)) {
+            Message.stdPrintf("server.listening", server.getPort());
+            server.run();
+        } finally {
+            if (endpoint != null) endpoint.close();
+        }
+    }
+
+    /**
+     * Returns the port number to which this server is bound.
+     *
+     * @return the local port number
+     * @throws IOException if an I/O error occurs
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Serves the connections until this server is closed.
+     */
+    @Override
+    public void run() {
+        try {
+            while (selector.isOpen()) {
+                selector.select();
+                runTasks();
+                registerWrites();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        serve(key);
+                    }
+                }
+            }
+        } catch (ClosedSelectorException ignored) {
+            // Closed by another thread
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes this server and all the connections.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!selector.isOpen()) return;
+
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) ((Connection) key.attachment()).close();
+        }
+        serverChannel.close();
+        selector.close();
+        gameExecutor.shutdownNow();
+    }
+
+    /* Requests the selector thread to write the output of the connection. It may be called by any thread. */
+    void requestWrite(Connection connection) {
+        writeRequests.add(connection);
+        selector.wakeup();
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) task.run();
+    }
+
+    private void registerWrites() {
+        Connection connection;
+        while ((connection = writeRequests.poll()) != null) {
+            SelectionKey key = connection.getKey();
+            if (key != null && key.isValid()) key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) return;
+
+        channel.configureBlocking(false);
+
+        // The prompts are small writes that the client waits for
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Connection connection = new Connection(this, channel);
+        connection.setKey(channel.register(selector, SelectionKey.OP_READ, connection));
+        connection.send(Message.getMessage("server.welcome"));
+    }
+
+    private void serve(SelectionKey key) {
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable() && !connection.read(line -> handleLine(connection, line))) {
+                disconnect(connection);
+                return;
+            }
+
+            if (key.isValid() && key.isWritable() && connection.write()) {
+                key.interestOps(SelectionKey.OP_READ);
+
+                // More output may have been queued after the write request was handled
+                if (connection.hasPendingOutput()) key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void handleLine(Connection connection, String line) {
+        if (line.equalsIgnoreCase(QUIT)) {
+            disconnect(connection);
+            return;
+        }
+
+        ServerRoom room = connection.getRoom();
+        if (room != null && room.isInProgress()) {
+            room.post(connection.getPlayer(), line);
+            return;
+        }
+
+        String[] words = line.split("\\s+", 3);
+        switch (words[0].toUpperCase(Locale.ROOT)) {
+            case "JOIN" -> join(connection, words);
+            case "PLAY" -> quickJoin(connection, line.substring(words[0].length()).strip());
+            case "START" -> start(connection, words, false);
+            case "MATCH" -> start(connection, words, true);
+            case "RANKING" -> showRanking(connection);
+            case "LEAVE" -> leave(connection);
+            case "" -> { }
+            default -> connection.send(Message.getMessage("server.welcome"));
+        }
+    }
+
+    private void join(Connection connection, String[] words) {
+        if (!canJoin(connection, words.length < 3)) return;
+
+        String roomName = words[1];
+        RemotePlayer player = new RemotePlayer(words[2], connection);
+        switch (lobby.join(roomName, player)) {
+            case JOINED -> connection.setRoom(lobby.findRoom(player.getPlayerId()), player);
+            case NAME_TAKEN -> connection.send(lobby.findRoom(player.getPlayerId()) != null
+                ? Message.format("server.error.name.already.in.lobby", player.getPlayerId())
+                : Message.format("server.error.name.already.exists", player.getPlayerId(), roomName));
+            case ROOM_FULL -> connection.send(Message.format("server.error.room.full", roomName));
+            default -> connection.send(Message.format("server.error.game.in.progress", roomName));
+        }
+    }
+
+    private void quickJoin(Connection connection, String playerName) {
+        if (!canJoin(connection, playerName.isEmpty())) return;
+
+        RemotePlayer player = new RemotePlayer(playerName, connection);
+        ServerRoom room = lobby.quickJoin(player);
+        if (room != null) {
+            connection.setRoom(room, player);
+        } else {
+            connection.send(Message.format("server.error.name.already.in.lobby", player.getPlayerId()));
+        }
+    }
+
+    private boolean canJoin(Connection connection, boolean missingArguments) {
+        if (connection.getRoom() != null) {
+            connection.send(Message.format("server.error.already.in.room", connection.getRoom().getGameName()));
+            return false;
+        }
+        if (missingArguments) {
+            connection.send(Message.getMessage("server.welcome"));
+            return false;
+        }
+
+        return true;
+    }
+
+    private void start(Connection connection, String[] words, boolean match) {
+        ServerRoom room = connection.getRoom();
+        if (room == null) {
+            connection.send(Message.getMessage("server.error.not.in.room"));
+            return;
+        }
+
+        try {
+            int players = words.length > 1 ? Integer.parseInt(words[1]) : 0;
+            if (!room.start(players, match, gameExecutor, () -> runOnSelector(() -> finish(room)))) {
+                connection.send(Message.format("server.error.game.in.progress", room.getGameName()));
+            }
+        } catch (NumberFormatException e) {
+            connection.send(e.getLocalizedMessage());
+        }
+    }
+
+    private void showRanking(Connection connection) {
+        StringBuilder ranking = new StringBuilder(Message.getMessage("server.ranking"));
+        int rank = 0;
+        for (Leaderboard.Standing standing : leaderboard.top(RANKING_SIZE)) {
+            ranking.append(System.lineSeparator())
+                   .append(Message.format("server.ranking.entry", ++rank, standing.getPlayerId(),
+                                          standing.getMatchWins(), standing.getMatches(), standing.getPoints()));
+        }
+        connection.send(ranking.toString());
+    }
+
+    private void leave(Connection connection) {
+        RemotePlayer player = connection.getPlayer();
+        if (player == null) return;
+
+        leave(player);
+        connection.setRoom(null, null);
+    }
+
+    private void leave(Player player) {
+        lobby.leave(player);
+        player.leaveGameSession();
+    }
+
+    /* Removes the players who were disconnected during the game, and updates the room in the lobby. */
+    private void finish(ServerRoom room) {
+        for (Player player : room.getPlayerList()) {
+            if (player instanceof RemotePlayer && !((RemotePlayer) player).isConnected()) leave(player);
+        }
+        lobby.update(room);
+    }
+
+    /* Drops the connection on the selector thread. It may be called by any thread. */
+    void drop(Connection connection) {
+        runOnSelector(() -> disconnect(connection));
+    }
+
+    private void disconnect(Connection connection) {
+        if (!connection.isOpen()) return;
+
+        connection.close();
+
+        RemotePlayer player = connection.getPlayer();
+        if (player == null) return;
+
+        // During a game, the player stays in the room until the game ends
+        player.disconnect();
+        if (!connection.getRoom().isInProgress()) leave(connection);
+    }
+
+    private void runOnSelector(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+}
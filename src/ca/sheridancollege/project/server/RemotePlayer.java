@@ -0,0 +1,61 @@
+package ca.sheridancollege.project.server;
+
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.game.InputEvent;
+import ca.sheridancollege.project.player.HumanPlayer;
+
+/**
+ * <p>The {@code RemotePlayer} class represents a human player connected to the {@link GameServer}.</p>
+ *
+ * <p>The prompts are sent to the client, and the input lines are posted to the game by the selector thread,
+ * so no thread waits for the input of a remote player. If the client is disconnected, the player plays the first
+ * playable card or draws a card on each turn until the game ends.</p>
+ */
+public class RemotePlayer extends HumanPlayer {
+    private final Connection connection;
+
+    private volatile boolean connected = true;
+
+    /**
+     * Constructs a new remote player of the specified name and connection.
+     *
+     * @param name       the unique name to assign to this player
+     * @param connection the connection to the client
+     */
+    RemotePlayer(String name, Connection connection) {
+        super(name);
+        this.connection = connection;
+    }
+
+    /**
+     * Sends the specified text to the client.
+     *
+     * @param text the text to send
+     */
+    public void send(String text) {
+        if (connected) connection.send(text);
+    }
+
+    @Override
+    protected boolean isPresent() {
+        return connected;
+    }
+
+    @Override
+    protected void quit() {
+        connection.close();
+        disconnect();
+    }
+
+    /* Marks this player as disconnected, and lets the game answer the prompt that this player waits for. */
+    void disconnect() {
+        connected = false;
+
+        Game game = gameSession;
+        if (game != null) game.post(InputEvent.disconnected(this));
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+}
@@ -0,0 +1,155 @@
+package ca.sheridancollege.project.server;
+
+import ca.sheridancollege.project.card.Card;
+import ca.sheridancollege.project.card.CardLabels;
+import ca.sheridancollege.project.game.GameView;
+import ca.sheridancollege.project.player.Player;
+import ca.sheridancollege.project.util.Message;
+import ca.sheridancollege.project.util.MessageTemplate;
+import ca.sheridancollege.project.util.MessageTemplates;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The {@code RemoteView} class renders the events of a game to the {@linkplain RemotePlayer remote players}
+ * in the room.
+ *
+ * <p>The events of a turn are built into a buffer and sent to each client at once when the turn ends
+ * or a player is prompted. The hand of a player is sent only to the player.</p>
+ */
+public class RemoteView implements GameView {
+    // The compiled messages of the game
+    private static final MessageTemplates messages = MessageTemplates.forBundle("message.UnoGame");
+    private static final MessageTemplate PLAYER_TURN = messages.get("game.player.turn");
+    private static final MessageTemplate DISCARD = messages.get("game.current.card.on.the.discard.pile");
+    private static final MessageTemplate DRAW = messages.get("game.draws.a.card");
+    private static final MessageTemplate PENALTY = messages.get("game.penalty");
+    private static final MessageTemplate WINNER = messages.get("game.result.winner");
+    private static final MessageTemplate ROUND_SCORE = messages.get("game.result.round.score");
+    private static final MessageTemplate MATCH_WINNER = messages.get("game.result.match.winner");
+    private static final MessageTemplate HAND = Message.getTemplate("player.player.hand");
+
+    private final List<RemotePlayer> players = new CopyOnWriteArrayList<>();
+
+    // The events of the current turn (accessed only by the thread that plays the game)
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * Adds the player to whom the events are sent.
+     *
+     * @param player the remote player
+     */
+    public void addPlayer(RemotePlayer player) {
+        players.add(player);
+    }
+
+    /**
+     * Removes the player to whom the events are sent.
+     *
+     * @param player the remote player
+     */
+    public void removePlayer(RemotePlayer player) {
+        players.remove(player);
+    }
+
+    /**
+     * Sends the specified line to all the players immediately.
+     *
+     * @param line the line to send
+     */
+    public void broadcast(String line) {
+        for (RemotePlayer player : players) player.send(line);
+    }
+
+    @Override
+    public void showTurn(Card discard, Card.Color color, Player player) {
+        showDiscard(discard, color);
+        PLAYER_TURN.appendTo(buffer, player.getPlayerId());
+    }
+
+    @Override
+    public void showDiscard(Card card, Card.Color color) {
+        String label = CardLabels.getDefault().getLabel(color, card.getValue());
+        DISCARD.appendTo(buffer, label);
+    }
+
+    @Override
+    public void showCardAction(Card card) {
+        String message = card.getActionMessage();
+        if (message != null) buffer.append(message).append('\n');
+    }
+
+    @Override
+    public void showDraw(String playerId) {
+        DRAW.appendTo(buffer, playerId);
+    }
+
+    @Override
+    public void showHand(Player player) {
+        showHand(player, player);
+    }
+
+    @Override
+    public void showHand(Player player, Player viewer) {
+        if (!(viewer instanceof RemotePlayer)) return;
+
+        // Keep the order of the events before the hand
+        flush();
+
+        StringBuilder hand = HAND.appendTo(new StringBuilder(), player.getPlayerId());
+        int size = player.handSize();
+        for (int i = 0; i < size; i++) hand.append(i).append(": ").append(player.getHandCard(i)).append('\n');
+        ((RemotePlayer) viewer).send(hand.toString());
+    }
+
+    @Override
+    public void showUno(Player player) {
+        buffer.append(player.getPlayerId()).append(": UNO!\n");
+    }
+
+    @Override
+    public void showPenalty(String playerId, int cards, String reasonKey) {
+        PENALTY.appendTo(buffer, playerId, cards, messages.getString(reasonKey));
+    }
+
+    @Override
+    public void showWinner(Player winner) {
+        WINNER.appendTo(buffer, winner.getPlayerId());
+        flush();
+    }
+
+    @Override
+    public void showRoundScore(Player winner, int points, int score) {
+        ROUND_SCORE.appendTo(buffer, winner.getPlayerId(), points, score);
+        flush();
+    }
+
+    @Override
+    public void showMatchWinner(Player winner, int score) {
+        MATCH_WINNER.appendTo(buffer, winner.getPlayerId(), score);
+        flush();
+    }
+
+    @Override
+    public void showMessage(Player viewer, String line) {
+        showPrompt(viewer, line);
+    }
+
+    @Override
+    public void showPrompt(Player viewer, String text) {
+        if (!(viewer instanceof RemotePlayer)) return;
+
+        // Keep the order of the events before the prompt
+        flush();
+        ((RemotePlayer) viewer).send(text);
+    }
+
+    @Override
+    public void flush() {
+        if (buffer.length() == 0) return;
+
+        broadcast(buffer.toString());
+        buffer.setLength(0);
+    }
+}
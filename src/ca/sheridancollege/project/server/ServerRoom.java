@@ -0,0 +1,141 @@
+package ca.sheridancollege.project.server;
+
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.game.Leaderboard;
+import ca.sheridancollege.project.game.Match;
+import ca.sheridancollege.project.game.UnoDeck;
+import ca.sheridancollege.project.journal.GameJournal;
+import ca.sheridancollege.project.journal.MappedJournal;
+import ca.sheridancollege.project.player.Player;
+import ca.sheridancollege.project.util.Message;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>The {@code ServerRoom} class represents a game room hosted by the {@link GameServer}.</p>
+ *
+ * <p>The players join and leave the room through the {@link ca.sheridancollege.project.game.Lobby Lobby}
+ * while no game is in progress, and a game is played on the executor of the server. No thread is held while
+ * the game waits for a remote player to challenge a Wild Draw 4 card.
+ * The events of the game are sent to the {@linkplain RemotePlayer remote players} in the room.</p>
+ *
+ * <p>A {@link Match} plays the rounds in the room until a player reaches the target score, and records the
+ * result in the leaderboard of the server.</p>
+ *
+ * <p>If the server has a journal directory, the games in the room are recorded in a {@link MappedJournal} of the
+ * room, which is closed when the room is closed. The room name is escaped into the name of the journal, so that
+ * every room has its own segment files.</p>
+ *
+ * <p>The games in a room are played by people, so every turn of them is recorded in the metrics.</p>
+ */
+final class ServerRoom extends Game {
+    private final RemoteView view;
+    private final Leaderboard leaderboard;
+
+    /*
+     * Constructs a room whose games are recorded in the journal directory, or not recorded if the directory is null.
+     */
+    ServerRoom(String name, Leaderboard leaderboard, Path journalDirectory) {
+        this(name, new RemoteView(), leaderboard);
+        setMetricsInterval(1);
+        if (journalDirectory != null) setJournal(openJournal(journalDirectory, name));
+    }
+
+    private ServerRoom(String name, RemoteView view, Leaderboard leaderboard) {
+        super(name, new UnoDeck(), view);
+        this.view = view;
+        this.leaderboard = leaderboard;
+    }
+
+    /* Opens the journal of the room. The games are played without a journal if it cannot be opened. */
+    private static GameJournal openJournal(Path directory, String roomName) {
+        try {
+            return new MappedJournal(directory, journalName(roomName));
+        } catch (IOException | UncheckedIOException e) {
+            Message.errPrintf("server.error.journal", roomName, e.getMessage());
+            return GameJournal.NONE;
+        }
+    }
+
+    @Override
+    public JoinResult join(Player player) {
+        JoinResult result = super.join(player);
+        if (result == JoinResult.JOINED && player instanceof RemotePlayer) {
+            player.setGameSession(this);
+            view.addPlayer((RemotePlayer) player);
+            view.broadcast(Message.format("server.joined", player.getPlayerId(), gameName));
+        }
+
+        return result;
+    }
+
+    @Override
+    public Player removePlayer(String playerId) {
+        Player player = super.removePlayer(playerId);
+        if (player instanceof RemotePlayer) {
+            view.removePlayer((RemotePlayer) player);
+            view.broadcast(Message.format("server.left", playerId, gameName));
+        }
+
+        return player;
+    }
+
+    /* Escapes the characters other than ASCII letters, digits, '.' and '-' of the room name as "_XXXX" in hex. */
+    private static String journalName(String roomName) {
+        StringBuilder builder = new StringBuilder(roomName.length());
+        for (int i = 0; i < roomName.length(); i++) {
+            char c = roomName.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '.' || c == '-') {
+                builder.append(c);
+            } else {
+                builder.append("_%04x".formatted((int) c));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public synchronized boolean closeIfEmpty() {
+        boolean closed = super.closeIfEmpty();
+        if (closed) getJournal().close();
+
+        return closed;
+    }
+
+    /*
+     * Starts a game, or a match if specified, with the number of players (or a random number if 0) on the executor.
+     * Returns false if a game is already in progress.
+     */
+    boolean start(int players, boolean match, Executor executor, Runnable onFinished) {
+        if (!beginGame()) return false;
+
+        CompletableFuture<Player> result;
+        if (match) {
+            Match rounds = new Match(this, Match.TARGET_SCORE, leaderboard);
+            result = players > 0 ? rounds.playMatchAsync(players, executor) : rounds.playMatchAsync(executor);
+        } else {
+            result = players > 0 ? playGameAsync(players, executor) : playGameAsync(executor);
+        }
+
+        result.whenComplete((winner, e) -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                Message.errPrintf("server.error.game.failed.log", getGameName(), cause);
+                cause.printStackTrace();
+                view.broadcast(Message.format("server.error.game.failed", getGameName()));
+            } else {
+                view.broadcast(Message.getMessage("server.game.over"));
+            }
+            endGame();
+            onFinished.run();
+        });
+
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package ca.sheridancollege.project.simulation;
+
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.game.GameView;
+import ca.sheridancollege.project.game.UnoDeck;
+import ca.sheridancollege.project.journal.GameJournal;
+import ca.sheridancollege.project.journal.MappedJournal;
+import ca.sheridancollege.project.player.Player;
+import ca.sheridancollege.project.util.Message;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The {@code Simulator} class plays Uno games between computer players without any console output.
+ *
+ * <p>Usage: {@code Simulator [games] [players] [seed] [journal directory]}
+ *
+ * <p>If the journal directory is specified, the events of all the games are recorded in a {@link MappedJournal}.
+ *
+ * <p>The seed of each game is derived from the base seed and the game number (see {@link #gameSeed(long, long)}),
+ * so any game of a batch can be replayed on its own.</p>
+ */
+public class Simulator {
+    private static final String GAME_NAME = "Simulation";
+
+    private static final int DEFAULT_GAMES = 100_000;
+    private static final int DEFAULT_PLAYERS = 4;
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    // The odd constant of the golden ratio for the Weyl sequence of the game seeds
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PLAYERS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        GameJournal journal = args.length > 3 ? new MappedJournal(Path.of(args[3]), GAME_NAME) : GameJournal.NONE;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            Game game = newHeadlessGame(gameSeed(seed, i));
+            game.setJournal(journal);
+            game.playGame(players);
+        }
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+        journal.close();
+
+        Message.stdPrintf("simulation.result", games, players, seconds, games / seconds);
+    }
+
+    /**
+     * Plays a headless game between the specified number of computer players.
+     *
+     * @param players the number of computer players
+     * @param seed    the seed of the game
+     * @return the winner of the game
+     */
+    public static Player playHeadless(int players, long seed) {
+        return newHeadlessGame(seed).playGame(players);
+    }
+
+    /**
+     * Constructs a new game that renders nothing.
+     *
+     * @param seed the seed of the game
+     * @return the headless game
+     */
+    public static Game newHeadlessGame(long seed) {
+        return new Game(GAME_NAME, new UnoDeck(), GameView.HEADLESS, seed);
+    }
+
+    /**
+     * Returns the seed of the specified game in a batch.
+     * The seeds are the mixed values of a Weyl sequence from the base seed, as {@link java.util.SplittableRandom}
+     * does, and do not depend on the thread or the order in which the games are played.
+     *
+     * @param baseSeed the seed of the batch
+     * @param game     the game number in the batch
+     * @return the seed of the game
+     */
+    public static long gameSeed(long baseSeed, long game) {
+        long z = baseSeed + game * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
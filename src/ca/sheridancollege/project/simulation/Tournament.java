@@ -0,0 +1,155 @@
+package ca.sheridancollege.project.simulation;
+
+import ca.sheridancollege.project.ai.Difficulty;
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.game.Game.PenaltyTypes;
+import ca.sheridancollege.project.player.ComputerPlayer;
+import ca.sheridancollege.project.util.Message;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The {@code Tournament} class plays independent headless games in parallel and merges their results.
+ *
+ * <p>Each game has its own deck, players, and state, and the headless games do not touch any shared mutable state
+ * (neither the console nor the {@code Scanner} of the {@link ca.sheridancollege.project.util.Command Command}),
+ * so the games are split into tasks of a {@link ForkJoinPool} without any locking.</p>
+ *
+ * <p>The seed of each game is derived from the seed of the tournament and the game number,
+ * so the result of a tournament is reproducible regardless of the number of threads.</p>
+ *
+ * <p>With a {@link Difficulty}, "Player 1" of each game is a search player of the difficulty, against the random
+ * computer players. The search is bounded by time, so such a tournament is not reproducible.</p>
+ *
+ * <p>Usage: {@code Tournament [games] [players] [threads] [seed] [difficulty]}
+ */
+public class Tournament {
+    // The number of games that a task plays without splitting
+    private static final long GAMES_PER_TASK = 1_000;
+
+    private static final long DEFAULT_GAMES = 1_000_000;
+    private static final int DEFAULT_PLAYERS = 4;
+
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double PERCENT = 100.0;
+
+    private final int players;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    // The factory of the computer players, or null for the random computer players only
+    private ComputerPlayer.Factory computerFactory;
+
+    /**
+     * Constructs a new {@code Tournament} object that plays the games on all the available processors.
+     *
+     * @param players the number of players in each game
+     * @param seed    the seed of this tournament
+     */
+    public Tournament(int players, long seed) {
+        this(players, seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new {@code Tournament} object that plays the games on the specified number of threads.
+     *
+     * @param players     the number of players in each game
+     * @param seed        the seed of this tournament
+     * @param parallelism the number of threads
+     */
+    public Tournament(int players, long seed, int parallelism) {
+        this.players = players;
+        this.seed = seed;
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_GAMES;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PLAYERS;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        Tournament tournament = new Tournament(players, seed, threads);
+        if (args.length > 4) tournament.seatSearchPlayer(Difficulty.valueOf(args[4].toUpperCase()));
+
+        long start = System.nanoTime();
+        TournamentResult result = tournament.play(games);
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+        tournament.shutdown();
+
+        Message.stdPrintf("tournament.result", result.getGames(), threads, seconds, result.getGames() / seconds);
+        for (int seat = 0; seat < result.getSeats(); seat++) {
+            Message.stdPrintf("tournament.result.win.rate", seat, result.getWinRate(seat) * PERCENT);
+        }
+        Message.stdPrintf("tournament.result.average.turns", result.getAverageTurns());
+        for (PenaltyTypes penaltyType : PenaltyTypes.values()) {
+            Message.stdPrintf("tournament.result.penalties", penaltyType, result.getPenalties(penaltyType));
+        }
+    }
+
+    /**
+     * Seats a search player of the specified difficulty as "Player 1" of each game.
+     * The workers of the search run on the common pool.
+     *
+     * @param difficulty the difficulty of the search player
+     */
+    public void seatSearchPlayer(Difficulty difficulty) {
+        ComputerPlayer.Factory searchFactory = difficulty.computerFactory(ForkJoinPool.commonPool());
+        computerFactory = (id, gameSession, rng) -> id == 1
+                                                        ? searchFactory.create(id, gameSession, rng)
+                                                        : new ComputerPlayer(id, gameSession, rng);
+    }
+
+    /**
+     * Plays the specified number of games and returns the merged result.
+     *
+     * @param games the number of games to play
+     * @return the result of all the games
+     */
+    public TournamentResult play(long games) {
+        return pool.invoke(new PlayTask(0, games));
+    }
+
+    /**
+     * Shuts down the threads of this tournament.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /* Plays the games from fromGame, inclusive, to toGame, exclusive. */
+    private class PlayTask extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long fromGame;
+        private final long toGame;
+
+        PlayTask(long fromGame, long toGame) {
+            this.fromGame = fromGame;
+            this.toGame = toGame;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (toGame - fromGame <= GAMES_PER_TASK) {
+                TournamentResult result = new TournamentResult(players);
+                for (long i = fromGame; i < toGame; i++) {
+                    Game game = Simulator.newHeadlessGame(Simulator.gameSeed(seed, i));
+                    game.setComputerFactory(computerFactory);
+                    result.record(game, game.playGame(players));
+                }
+
+                return result;
+            }
+
+            long middle = (fromGame + toGame) >>> 1;
+            PlayTask left = new PlayTask(fromGame, middle);
+            left.fork();
+
+            TournamentResult result = new PlayTask(middle, toGame).compute();
+            return result.merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package ca.sheridancollege.project.simulation;
+
+import ca.sheridancollege.project.game.Game;
+import ca.sheridancollege.project.game.Game.PenaltyTypes;
+import ca.sheridancollege.project.player.Player;
+
+/**
+ * The {@code TournamentResult} class accumulates the results of the games in a {@link Tournament}.
+ *
+ * <p>A result is confined to the thread that records it; the results of the threads are combined with
+ * {@link #merge(TournamentResult)}.</p>
+ */
+public class TournamentResult {
+    // The number of wins by the seat number
+    private final long[] wins;
+
+    // The number of penalties by the ordinal of the penalty type
+    private final long[] penalties;
+
+    private long games;
+    private long turns;
+
+    /**
+     * Constructs an empty result for the specified number of players.
+     *
+     * @param players the number of players in each game
+     */
+    public TournamentResult(int players) {
+        wins = new long[players];
+        penalties = new long[PenaltyTypes.values().length];
+    }
+
+    /**
+     * Returns the number of played games.
+     *
+     * @return the number of played games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of seats in each game.
+     *
+     * @return the number of seats
+     */
+    public int getSeats() {
+        return wins.length;
+    }
+
+    /**
+     * Returns the number of wins of the player in the specified seat.
+     *
+     * @param seat the seat number
+     * @return the number of wins
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Returns the win rate of the player in the specified seat.
+     *
+     * @param seat the seat number
+     * @return the win rate from {@code 0.0} to {@code 1.0}
+     */
+    public double getWinRate(int seat) {
+        return games > 0 ? (double) wins[seat] / games : 0.0;
+    }
+
+    /**
+     * Returns the average number of turns per game.
+     *
+     * @return the average number of turns
+     */
+    public double getAverageTurns() {
+        return games > 0 ? (double) turns / games : 0.0;
+    }
+
+    /**
+     * Returns the total number of the specified penalties.
+     *
+     * @param penaltyType the type of the penalty
+     * @return the number of the penalties
+     */
+    public long getPenalties(PenaltyTypes penaltyType) {
+        return penalties[penaltyType.ordinal()];
+    }
+
+    /**
+     * Records the result of the specified finished game.
+     *
+     * @param game   the finished game
+     * @param winner the winner of the game
+     */
+    public void record(Game game, Player winner) {
+        games++;
+        turns += game.getTurns();
+        wins[game.getTurnOrder().seatOf(winner)]++;
+
+        for (PenaltyTypes penaltyType : PenaltyTypes.values()) {
+            penalties[penaltyType.ordinal()] += game.getPenalties(penaltyType);
+        }
+    }
+
+    /**
+     * Adds the specified result to this result.
+     *
+     * @param other the result to add
+     * @return this result
+     */
+    public TournamentResult merge(TournamentResult other) {
+        games += other.games;
+        turns += other.turns;
+        for (int i = 0; i < wins.length; i++) wins[i] += other.wins[i];
+        for (int i = 0; i < penalties.length; i++) penalties[i] += other.penalties[i];
+
+        return this;
+    }
+}
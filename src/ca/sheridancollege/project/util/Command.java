@@ -2,9 +2,7 @@ package ca.sheridancollege.project.util;
 
 import ca.sheridancollege.project.card.Card;
 
-import java.util.InputMismatchException;
 import java.util.Scanner;
-import java.util.regex.Pattern;
 
 /**
  * <p>This class consists only of static methods that operate the commands of this program.</p>
@@ -14,30 +12,8 @@ import java.util.regex.Pattern;
  * @author Makoto Sakaguchi
  */
 public class Command {
-    private static final String GAME_PROMPT_BASE_PATTERN = "\\A([%s]|\\d+)\\b";
-
-    private static final Pattern confirmPromptPattern;
-    private static final Pattern gamePromptPattern;
-
     private static Scanner scanner;
 
-    static {
-        confirmPromptPattern = Pattern.compile("\\A(y(es)?|no?)\\b", Pattern.CASE_INSENSITIVE);
-
-        String regex = GAME_PROMPT_BASE_PATTERN.formatted(Game.toCommandsString());
-        gamePromptPattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
-    }
-
-    /**
-     * Clears the console screen and resets the cursor position at the top of the screen.
-     */
-    public static void clearScreen() {
-        // Clear the console screen
-        System.out.print("\033[H\033[2J");
-        // Reset the cursor position at the top of the screen
-        System.out.flush();
-    }
-
     /**
      * Displays a prompt with the message of the specified message key.
      *
@@ -52,108 +28,59 @@ public class Command {
     }
 
     /**
-     * Displays a prompt for an {@code int} value with the message of the specified message key.
+     * Reads the next line from the console. It blocks until a line is entered.
      *
-     * @param messageKey the key for the message string
-     * @return the {@code int} value from the input
-     * @see Scanner#nextInt()
-     */
-    public static int promptInt(String messageKey) {
-        initScanner();
-
-        Message.print(messageKey);
-        return scanner.nextInt();
-    }
-
-    /**
-     * Displays a confirmation prompt.
-     *
-     * @param messageKey the key for the confirmation message string
-     * @param args       Arguments referenced by the format specifiers in this string.
-     * @return {@code true} if confirmed by the user, otherwise {@code false}.
-     * @see java.util.Formatter
+     * @return the line, or {@code null} if the console has no more input
      */
-    public static boolean confirmPrompt(String messageKey, Object... args) {
+    public static String readLine() {
         initScanner();
 
-        Message.showConfirmMessage(messageKey, args);
-        String str = scanner.findInLine(confirmPromptPattern);
-        if (str == null) return false;
-
-        char ch = str.charAt(0);
-        return ch == 'y' || ch == 'Y';
+        return scanner.hasNextLine() ? scanner.nextLine() : null;
     }
 
     /**
-     * Displays the game prompt.
+     * Returns the game prompt.
      *
-     * @return the user input string, with all leading and trailing {@code white space} removed
+     * @return the game commands and the prompt for the card number or the game command
      */
-    public static String showGamePrompt() {
-        // Displays the game commands for this program.
-        Message.stdPrintf("command.game.commands", Game.SHOW_HAND.command, Game.SHOW_PLAYABLE_CARDS.command,
-            Game.UNO.command, Game.DRAW_A_CARD.command, Game.QUIT.command);
-
-        initScanner();
-        Message.print("command.game.enter.the.card.number.or.the.game.command");
-        String str = scanner.findInLine(gamePromptPattern);
-        if (str == null) {
-            // Displays the message about the unknown (invalid) command.
-            Message.stdPrintln("error.unknown.command.please.enter.again");
-            return showGamePrompt();
-        }
-
-        return str;
+    public static String gamePrompt() {
+        return Message.format("command.game.commands", Game.SHOW_HAND.command, Game.SHOW_PLAYABLE_CARDS.command,
+            Game.UNO.command, Game.DRAW_A_CARD.command, Game.QUIT.command)
+                   + Message.getMessage("command.game.enter.the.card.number.or.the.game.command");
     }
 
     /**
-     * Displays the card colour prompt.
+     * Returns the card colour prompt.
      *
-     * @return the {@linkplain Card.Color card color}
+     * @return the list of the {@linkplain Card.Color card colours} and the prompt for the colour number
      */
-    public static Card.Color showCardColorPrompt() {
-        Message.stdPrintln("command.color.select.a.colour");
+    public static String colorPrompt() {
+        StringBuilder colorPrompt = new StringBuilder(Message.getMessage("command.color.select.a.colour"));
+        colorPrompt.append(System.lineSeparator());
         Card.Color[] colors = Card.Color.values();
         for (int i = 0; i < colors.length; i++) {
-            System.out.println(i + ": " + colors[i]);
+            colorPrompt.append(i).append(": ").append(colors[i]).append(System.lineSeparator());
         }
 
-        int index = 0;
-        try {
-            index = promptInt("command.color.enter.the.colour.number.you.selected");
-            return colors[index];
-        } catch (InputMismatchException e) {
-            Message.errPrintln("error.command.color.invalid.input.please.enter.a.number.between.0.and.3");
-        } catch (ArrayIndexOutOfBoundsException e) {
-            Message.errPrintf("error.command.color.index.is.out.of.the.colour.number", index);
-        }
-
-        // For exception is handled
-        return showCardColorPrompt();
+        return colorPrompt.append(Message.getMessage("command.color.enter.the.colour.number.you.selected"))
+                   .toString();
     }
 
     /**
-     * Displays the message that a player has chosen an unplayable card.
-     */
-    public static void showUnplayableCardMessage() {
-        Message.stdPrintf("error.human.player.unplayable.card", Game.SHOW_PLAYABLE_CARDS.command);
-    }
-
-    /**
-     * Displays a confirmation prompt and exit this program if the user confirms.
+     * Returns a confirmation prompt.
      *
      * @param messageKey the key for the confirmation message string
+     * @param args       Arguments referenced by the format specifiers in this string.
+     * @return the confirmation message and the choices
+     * @see java.util.Formatter
      */
-    public static void exit(String messageKey) {
-        if (confirmPrompt(messageKey)) System.exit(0);
+    public static String confirmPrompt(String messageKey, Object... args) {
+        return Message.format(messageKey, args) + System.lineSeparator()
+                   + Message.getMessage("prompt.yes.no") + System.lineSeparator();
     }
 
     private static synchronized void initScanner() {
         if (scanner == null) scanner = new Scanner(System.in);
-
-        // Clear the input buffer
-        // System.out.println();
-        // scanner.nextLine();
     }
 
     /**
@@ -208,18 +135,6 @@ public class Command {
             return None;
         }
 
-        /**
-         * Returns the {@code command}s string of this enum type, in the order they're declared.
-         *
-         * @return the {@code command}s string of this enum type, in the order they're declared
-         */
-        private static String toCommandsString() {
-            StringBuilder sb = new StringBuilder();
-            for (Game game : values()) sb.append(game.command);
-
-            return sb.toString();
-        }
-
         public char getCommand() {
             return command;
         }
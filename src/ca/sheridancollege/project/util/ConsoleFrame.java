@@ -0,0 +1,213 @@
+package ca.sheridancollege.project.util;
+
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+
+/**
+ * <p>The {@code ConsoleFrame} class builds the text of a screen (frame) in a buffer and
+ * displays it to the console at once.</p>
+ *
+ * <p>Only the lines that differ from the previously displayed frame are written, each at its row by
+ * ANSI cursor addressing, and the rest of the screen below the frame is erased.
+ * The whole update is sent to the console with a single write, so a frame does not flicker
+ * even on a slow terminal.</p>
+ *
+ * <p>The rows of the lines on the screen are known only while the screen has not scrolled. So the whole frame is
+ * redrawn from the top of a cleared screen, line by line, for the first frame, after the screen is
+ * {@linkplain #invalidate() written below the frame} (e.g. by a prompt and the input), and for the frames that
+ * do not fit the height of the terminal, which then scroll as plain text.</p>
+ */
+public class ConsoleFrame {
+    private static final String CSI = "\033[";
+
+    // The height of the terminal if the environment does not tell it
+    private static final int DEFAULT_ROWS = 24;
+
+    private final PrintStream out;
+    private final Charset charset;
+
+    // The height of the terminal
+    private final int rows;
+
+    // The lines of the frame being built
+    private final ArrayList<String> lines = new ArrayList<>();
+
+    // The lines of the frame on the screen
+    private final ArrayList<String> screen = new ArrayList<>();
+
+    // The last line that is not terminated yet
+    private final StringBuilder partialLine = new StringBuilder();
+
+    private final StringBuilder output = new StringBuilder();
+
+    // The message being formatted by a template
+    private final StringBuilder message = new StringBuilder();
+
+    // Whether the lines on the screen are the displayed frame from the top row
+    private boolean screenKnown = false;
+
+    // Whether the frame has been changed since the last flush
+    private boolean dirty = false;
+
+    /**
+     * Constructs a new frame displayed to the standard output.
+     */
+    public ConsoleFrame() {
+        this(System.out, Charset.defaultCharset(), terminalRows());
+    }
+
+    /**
+     * Constructs a new frame displayed to the specified stream.
+     *
+     * @param out     the stream to display the frame
+     * @param charset the charset of the stream
+     * @param rows    the height of the terminal
+     */
+    public ConsoleFrame(PrintStream out, Charset charset, int rows) {
+        this.out = out;
+        this.charset = charset;
+        this.rows = rows;
+    }
+
+    /**
+     * Starts a new empty frame. The screen is not changed until {@link #flush()} is called.
+     */
+    public void clear() {
+        lines.clear();
+        partialLine.setLength(0);
+        dirty = true;
+    }
+
+    /**
+     * Appends the specified text to this frame. Line separators in the text start new lines.
+     *
+     * @param text the text to append
+     */
+    public void print(CharSequence text) {
+        int start = 0;
+        int end;
+        while ((end = indexOfNewLine(text, start)) >= 0) {
+            int lineEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+            partialLine.append(text, start, lineEnd);
+            lines.add(partialLine.toString());
+            partialLine.setLength(0);
+
+            start = end + 1;
+        }
+        partialLine.append(text, start, text.length());
+
+        dirty = true;
+    }
+
+    /**
+     * Appends the specified text and then terminates the line.
+     *
+     * @param text the text to append
+     */
+    public void println(CharSequence text) {
+        print(text);
+        print("\n");
+    }
+
+    /**
+     * Appends the message formatted by the specified template and arguments.
+     *
+     * @param template the template of the message
+     * @param args     Arguments referenced by the format specifiers in the template.
+     * @see MessageTemplate#appendTo(StringBuilder, Object...)
+     */
+    public void printf(MessageTemplate template, Object... args) {
+        message.setLength(0);
+        print(template.appendTo(message, args));
+    }
+
+    /**
+     * Displays the changed lines of this frame, and moves the cursor to the line below the frame.
+     * Nothing is written if this frame has not been changed since the last flush,
+     * so the text written below the frame (e.g. prompts) is kept.
+     */
+    public void flush() {
+        if (!dirty) return;
+        if (partialLine.length() > 0) {
+            lines.add(partialLine.toString());
+            partialLine.setLength(0);
+        }
+
+        output.setLength(0);
+        int size = lines.size();
+
+        // The last row is kept for the cursor, so that the frame does not scroll the screen
+        boolean fits = size < rows;
+        if (screenKnown && fits) {
+            for (int row = 0; row < size; row++) {
+                String line = lines.get(row);
+                if (row < screen.size() && line.equals(screen.get(row))) continue;
+
+                // Move to the row and erase it before writing the line
+                output.append(CSI).append(row + 1).append(";1H").append(CSI).append("2K").append(line);
+            }
+            // Erase the rest of the screen (the longer previous frame)
+            output.append(CSI).append(size + 1).append(";1H").append(CSI).append("J");
+        } else {
+            // Clear the screen whose contents are unknown, and write the whole frame
+            output.append(CSI).append("H").append(CSI).append("2J");
+            for (String line : lines) output.append(line).append(System.lineSeparator());
+        }
+
+        byte[] bytes = output.toString().getBytes(charset);
+        out.write(bytes, 0, bytes.length);
+        out.flush();
+
+        screen.clear();
+        screen.addAll(lines);
+        screenKnown = fits;
+        dirty = false;
+    }
+
+    /**
+     * Displays this frame, and then writes the specified text below it as it is (e.g. a prompt followed by the
+     * input). The next frame is redrawn as a whole, since the screen below this frame is changed.
+     *
+     * @param text the text to write below this frame
+     */
+    public void writeBelow(CharSequence text) {
+        flush();
+
+        byte[] bytes = text.toString().getBytes(charset);
+        out.write(bytes, 0, bytes.length);
+        out.flush();
+
+        invalidate();
+    }
+
+    /**
+     * Marks that the screen has been written below this frame, so that the rows of the lines on the screen are
+     * no longer known and the next frame is redrawn as a whole.
+     */
+    public void invalidate() {
+        screenKnown = false;
+    }
+
+    /* Returns the height of the terminal from the LINES environment variable, or the default height. */
+    private static int terminalRows() {
+        String lines = System.getenv("LINES");
+        if (lines == null) return DEFAULT_ROWS;
+
+        try {
+            int rows = Integer.parseInt(lines.strip());
+            return rows > 0 ? rows : DEFAULT_ROWS;
+        } catch (NumberFormatException e) {
+            return DEFAULT_ROWS;
+        }
+    }
+
+    private static int indexOfNewLine(CharSequence text, int fromIndex) {
+        int length = text.length();
+        for (int i = fromIndex; i < length; i++) {
+            if (text.charAt(i) == '\n') return i;
+        }
+
+        return -1;
+    }
+}
@@ -13,6 +13,12 @@ import java.util.ResourceBundle;
 public class Message {
     protected static final ResourceBundle messageBundle = ResourceBundle.getBundle("Message");
 
+    // The compiled messages of the bundle
+    private static final MessageTemplates templates = MessageTemplates.forBundle("Message");
+
+    // The buffer of the messages being formatted on each thread
+    private static final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(StringBuilder::new);
+
     /**
      * Gets a string for the given key from this resource bundle or one of its parents.
      *
@@ -22,6 +28,29 @@ public class Message {
         return messageBundle.getString(key);
     }
 
+    /**
+     * Returns the compiled template of the message string for the specified key.
+     *
+     * @param key the key for the message string
+     * @return the template of the message string
+     * @see MessageTemplates#get(String)
+     */
+    public static MessageTemplate getTemplate(String key) {
+        return templates.get(key);
+    }
+
+    /**
+     * Returns a formatted string using the message string for the specified key and arguments.
+     *
+     * @param key  the key for the message string
+     * @param args Arguments referenced by the format specifiers in the message string.
+     * @return the formatted message string
+     * @see MessageTemplate#format(Object...)
+     */
+    public static String format(String key, Object... args) {
+        return format(templates.get(key), args);
+    }
+
     public static void print(String key) {
         System.out.print(messageBundle.getString(key));
     }
@@ -72,7 +101,7 @@ public class Message {
      * @see PrintStream#printf(String, Object...)
      */
     public static void showConfirmMessage(String key, Object... args) {
-        System.out.printf((messageBundle.getString(key)) + "%n", args);
+        System.out.println(format(templates.get(key), args));
         System.out.println(messageBundle.getString("prompt.yes.no"));
     }
 
@@ -81,6 +110,20 @@ public class Message {
     }
 
     private static void printf(PrintStream printStream, String key, Object... args) {
-        printStream.printf(messageBundle.getString(key), args);
+        printStream.print(format(templates.get(key), args));
+    }
+
+    /*
+     * Formats the message in the buffer of this thread. An argument may format another message while its string
+     * is appended, so the message is appended after the one in the buffer, and the buffer is cut back after it.
+     */
+    private static String format(MessageTemplate template, Object[] args) {
+        StringBuilder builder = buffer.get();
+        int start = builder.length();
+        try {
+            return template.appendTo(builder, args).substring(start);
+        } finally {
+            builder.setLength(start);
+        }
     }
 }
@@ -0,0 +1,222 @@
+package ca.sheridancollege.project.util;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>The {@code MessageTemplate} class is a message format string parsed once into its literal text and
+ * format specifiers, which appends the formatted message straight into a {@link StringBuilder}.</p>
+ *
+ * <p>{@link String#format(String, Object...)} parses the format string and creates a {@link java.util.Formatter}
+ * on every call. A template appends the literal text and the plain {@code %s} and {@code %d} specifiers of its
+ * arguments directly, and the {@code %n} and {@code %%} specifiers are a part of the literal text. The other
+ * specifiers (e.g. {@code %,d} or {@code %.2f}) are formatted one by one as {@code String.format} would,
+ * so a template gives the same message for the same arguments.</p>
+ *
+ * <p>A template is immutable and may be shared by threads. The templates of the messages in a resource bundle
+ * are cached by {@link MessageTemplates}.</p>
+ */
+public final class MessageTemplate {
+    // The format specifier: %[argument_index$][flags][width][.precision]conversion
+    private static final Pattern SPECIFIER =
+        Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
+    // The kinds of the segments
+    private static final int LITERAL = 0;
+    private static final int STRING = 1;
+    private static final int DECIMAL = 2;
+    private static final int SPECIFIED = 3;
+
+    private final String pattern;
+    private final Locale locale;
+
+    // The kind of each segment, and its literal text or format specifier, and the index of its argument
+    private final int[] kinds;
+    private final String[] texts;
+    private final int[] argumentIndexes;
+
+    private MessageTemplate(String pattern, Locale locale, int[] kinds, String[] texts, int[] argumentIndexes) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.kinds = kinds;
+        this.texts = texts;
+        this.argumentIndexes = argumentIndexes;
+    }
+
+    /**
+     * Compiles the specified format string in the default locale for formatting.
+     *
+     * @param pattern the format string (see {@link java.util.Formatter})
+     * @return the template of the format string
+     * @see Locale.Category#FORMAT
+     */
+    public static MessageTemplate compile(String pattern) {
+        return compile(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Compiles the specified format string in the locale.
+     *
+     * @param pattern the format string (see {@link java.util.Formatter})
+     * @param locale  the locale to format the arguments in
+     * @return the template of the format string
+     */
+    public static MessageTemplate compile(String pattern, Locale locale) {
+        // The digits of the locale that are not ASCII digits are left to the formatter
+        boolean asciiDigits = DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0';
+
+        List<Integer> kinds = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<Integer> argumentIndexes = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        Matcher matcher = SPECIFIER.matcher(pattern);
+        int last = 0;
+        int ordinaryIndex = 0;
+        int previousIndex = -1;
+        while (matcher.find()) {
+            literal.append(pattern, last, matcher.start());
+            last = matcher.end();
+
+            String conversion = matcher.group(6);
+            if (conversion.equals("n")) {
+                literal.append(System.lineSeparator());
+                continue;
+            }
+            if (conversion.equals("%")) {
+                literal.append('%');
+                continue;
+            }
+
+            String flags = matcher.group(2) != null ? matcher.group(2) : "";
+            int argumentIndex;
+            if (matcher.group(1) != null) {
+                argumentIndex = Integer.parseInt(matcher.group(1).substring(0, matcher.group(1).length() - 1)) - 1;
+            } else if (flags.indexOf('<') >= 0) {
+                argumentIndex = previousIndex;
+            } else {
+                argumentIndex = ordinaryIndex++;
+            }
+            previousIndex = argumentIndex;
+
+            if (literal.length() > 0) {
+                kinds.add(LITERAL);
+                texts.add(literal.toString());
+                argumentIndexes.add(-1);
+                literal.setLength(0);
+            }
+
+            String specifier = matcher.group();
+            boolean plain = specifier.length() == 2;
+            if (plain && conversion.equals("s")) {
+                kinds.add(STRING);
+            } else if (plain && conversion.equals("d") && asciiDigits) {
+                kinds.add(DECIMAL);
+            } else {
+                // Format the argument alone, by the specifier without the argument index
+                kinds.add(SPECIFIED);
+                specifier = "%" + specifier.substring(matcher.group(1) != null ? matcher.end(1) - matcher.start() : 1)
+                                           .replace("<", "");
+            }
+            texts.add(specifier);
+            argumentIndexes.add(argumentIndex);
+        }
+        literal.append(pattern, last, pattern.length());
+        if (literal.length() > 0) {
+            kinds.add(LITERAL);
+            texts.add(literal.toString());
+            argumentIndexes.add(-1);
+        }
+
+        return new MessageTemplate(pattern, locale, kinds.stream().mapToInt(Integer::intValue).toArray(),
+                                   texts.toArray(new String[0]),
+                                   argumentIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Returns the format string of this template.
+     *
+     * @return the format string
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the locale that this template formats the arguments in.
+     *
+     * @return the locale of this template
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Appends the message formatted with the specified arguments to the builder.
+     *
+     * @param builder the builder to append the message to
+     * @param args    Arguments referenced by the format specifiers in the format string.
+     * @return the builder
+     * @throws MissingFormatArgumentException if an argument is missing
+     * @see String#format(Locale, String, Object...)
+     */
+    public StringBuilder appendTo(StringBuilder builder, Object... args) {
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == LITERAL) {
+                builder.append(texts[i]);
+                continue;
+            }
+
+            Object arg = argument(args, i);
+            switch (kinds[i]) {
+                case STRING -> {
+                    if (arg instanceof Formattable) {
+                        builder.append(String.format(locale, texts[i], arg));
+                    } else {
+                        builder.append(arg);
+                    }
+                }
+                case DECIMAL -> {
+                    if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+                        builder.append(((Number) arg).longValue());
+                    } else {
+                        builder.append(String.format(locale, texts[i], arg));
+                    }
+                }
+                default -> builder.append(String.format(locale, texts[i], arg));
+            }
+        }
+
+        return builder;
+    }
+
+    /**
+     * Returns the message formatted with the specified arguments.
+     *
+     * @param args Arguments referenced by the format specifiers in the format string.
+     * @return the formatted message
+     * @throws MissingFormatArgumentException if an argument is missing
+     * @see String#format(Locale, String, Object...)
+     */
+    public String format(Object... args) {
+        return appendTo(new StringBuilder(pattern.length() + 16 * args.length), args).toString();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private Object argument(Object[] args, int segment) {
+        int index = argumentIndexes[segment];
+        if (index < 0 || index >= args.length) throw new MissingFormatArgumentException(texts[segment]);
+
+        return args[index];
+    }
+}
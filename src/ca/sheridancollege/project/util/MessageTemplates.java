@@ -0,0 +1,80 @@
+package ca.sheridancollege.project.util;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code MessageTemplates} class is the cache of the {@linkplain MessageTemplate templates} of the messages in
+ * a resource bundle in a locale.
+ *
+ * <p>The message of a key is looked up in the bundle and compiled the first time it is used, so the callers keep
+ * the templates of their messages in constants and format them without parsing. The instances are cached by the
+ * base name of the bundle and the locale, like the bundles themselves.</p>
+ */
+public final class MessageTemplates {
+    private static final ConcurrentHashMap<List<Object>, MessageTemplates> cache = new ConcurrentHashMap<>();
+
+    private final ResourceBundle bundle;
+    private final Locale locale;
+
+    // The templates by message key
+    private final ConcurrentHashMap<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
+    private MessageTemplates(ResourceBundle bundle, Locale locale) {
+        this.bundle = bundle;
+        this.locale = locale;
+    }
+
+    /**
+     * Returns the templates of the messages in the specified bundle in the default locale.
+     *
+     * @param baseName the base name of the resource bundle
+     * @return the templates of the bundle
+     * @see ResourceBundle#getBundle(String)
+     */
+    public static MessageTemplates forBundle(String baseName) {
+        return cache.computeIfAbsent(List.of(baseName), k -> new MessageTemplates(
+            ResourceBundle.getBundle(baseName), Locale.getDefault(Locale.Category.FORMAT)));
+    }
+
+    /**
+     * Returns the templates of the messages in the specified bundle in the locale.
+     *
+     * @param baseName the base name of the resource bundle
+     * @param locale   the locale of the messages
+     * @return the templates of the bundle in the locale
+     * @see ResourceBundle#getBundle(String, Locale)
+     */
+    public static MessageTemplates forBundle(String baseName, Locale locale) {
+        return cache.computeIfAbsent(List.of(baseName, locale),
+            k -> new MessageTemplates(ResourceBundle.getBundle(baseName, locale), locale));
+    }
+
+    /**
+     * Returns the template of the message for the specified key.
+     *
+     * @param key the key for the message string
+     * @return the template of the message
+     * @throws java.util.MissingResourceException if no message for the key can be found
+     */
+    public MessageTemplate get(String key) {
+        MessageTemplate template = templates.get(key);
+        if (template != null) return template;
+
+        return templates.computeIfAbsent(key, k -> MessageTemplate.compile(bundle.getString(k), locale));
+    }
+
+    /**
+     * Returns the message string for the specified key as it is.
+     *
+     * @param key the key for the message string
+     * @return the message string
+     * @throws java.util.MissingResourceException if no message for the key can be found
+     * @see ResourceBundle#getString(String)
+     */
+    public String getString(String key) {
+        return bundle.getString(key);
+    }
+}